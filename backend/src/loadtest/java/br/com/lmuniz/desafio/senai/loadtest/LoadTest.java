@@ -0,0 +1,113 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadTest {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadTestData data;
+    private final LoadTestSettings settings;
+    private final ExecutorService executor;
+    private final LoadTestScenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    public LoadTest(HttpClient client, URI baseUri, LoadTestData data, LoadTestSettings settings, ExecutorService executor) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.data = data;
+        this.settings = settings;
+        this.executor = executor;
+        this.scenarios = settings.mix().keySet().toArray(LoadTestScenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += settings.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public LoadTestReport run(Duration duration) throws InterruptedException, ExecutionException {
+        LoadTestReport report = new LoadTestReport(settings.mix().keySet());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        if (settings.rate() > 0) {
+            runAtFixedRate(report, start, end);
+        } else {
+            runClosedLoop(report, end);
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void runClosedLoop(LoadTestReport report, long end) throws InterruptedException, ExecutionException {
+        List<Future<?>> users = new ArrayList<>(settings.concurrency());
+        for (int i = 0; i < settings.concurrency(); i++) {
+            users.add(executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    execute(nextScenario(), System.nanoTime(), report);
+                }
+            }));
+        }
+        for (Future<?> user : users) {
+            user.get();
+        }
+    }
+
+    private void runAtFixedRate(LoadTestReport report, long start, long end) {
+        long intervalNanos = 1_000_000_000L / settings.rate();
+        Phaser inFlight = new Phaser(1);
+        for (long intendedStart = start; intendedStart < end; intendedStart += intervalNanos) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduledAt = intendedStart;
+            LoadTestScenario scenario = nextScenario();
+            inFlight.register();
+            executor.execute(() -> {
+                try {
+                    execute(scenario, scheduledAt, report);
+                } finally {
+                    inFlight.arriveAndDeregister();
+                }
+            });
+        }
+        inFlight.arriveAndAwaitAdvance();
+    }
+
+    private void execute(LoadTestScenario scenario, long startedAt, LoadTestReport report) {
+        HttpRequest request = scenario.request(baseUri, data, ThreadLocalRandom.current());
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            report.recordResponse(scenario, response.statusCode(), System.nanoTime() - startedAt);
+        } catch (IOException e) {
+            report.recordFailure(scenario, System.nanoTime() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private LoadTestScenario nextScenario() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public record LoadTestData(List<Long> hotProductIds, List<String> couponCodes, List<String> searchTerms) {
+
+    public static LoadTestData load(JdbcTemplate jdbcTemplate, int hotProducts) {
+        List<Long> hotProductIds = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE deleted_at IS NULL ORDER BY id LIMIT ?", Long.class, hotProducts);
+        List<String> couponCodes = jdbcTemplate.queryForList(
+                "SELECT code FROM coupons WHERE deleted_at IS NULL AND NOT one_shot AND max_uses IS NULL " +
+                        "AND valid_from <= NOW() AND valid_until > NOW() ORDER BY id", String.class);
+        List<String> searchTerms = jdbcTemplate.queryForList(
+                "SELECT term FROM product_search_terms WHERE CHAR_LENGTH(term) >= 4 " +
+                        "GROUP BY term ORDER BY COUNT(*) DESC, term LIMIT 500", String.class);
+
+        if (hotProductIds.isEmpty() || couponCodes.isEmpty() || searchTerms.isEmpty()) {
+            throw new IllegalStateException("The generated catalog has no products, redeemable coupons or search terms to drive traffic with.");
+        }
+        return new LoadTestData(hotProductIds, couponCodes, searchTerms);
+    }
+
+    public long hotProductId(ThreadLocalRandom random) {
+        return hotProductIds.get(random.nextInt(hotProductIds.size()));
+    }
+}
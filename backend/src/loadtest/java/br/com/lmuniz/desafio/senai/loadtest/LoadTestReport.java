@@ -0,0 +1,200 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final Instant startedAt = Instant.now();
+    private final Map<LoadTestScenario, ScenarioStats> scenarios = new EnumMap<>(LoadTestScenario.class);
+    private long elapsedNanos;
+    private long pinnedThreadEvents = -1;
+    private int peakThreads;
+    private long heapUsedBytes;
+
+    public LoadTestReport(Iterable<LoadTestScenario> scenarios) {
+        for (LoadTestScenario scenario : scenarios) {
+            this.scenarios.put(scenario, new ScenarioStats());
+        }
+    }
+
+    public void recordResponse(LoadTestScenario scenario, int status, long latencyNanos) {
+        ScenarioStats stats = scenarios.get(scenario);
+        stats.record(latencyNanos);
+        if (status >= 500) {
+            stats.errors.increment();
+        } else if (status >= 400) {
+            stats.rejected.increment();
+        } else {
+            stats.succeeded.increment();
+        }
+    }
+
+    public void recordFailure(LoadTestScenario scenario, long latencyNanos) {
+        ScenarioStats stats = scenarios.get(scenario);
+        stats.record(latencyNanos);
+        stats.errors.increment();
+    }
+
+    public void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public void recordPinnedThreadEvents(long pinnedThreadEvents) {
+        this.pinnedThreadEvents = pinnedThreadEvents;
+    }
+
+    public void recordJvmUsage(int peakThreads, long heapUsedBytes) {
+        this.peakThreads = peakThreads;
+        this.heapUsedBytes = heapUsedBytes;
+    }
+
+    public void write(Path directory, LoadTestSettings settings) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<LoadTestScenario, ScenarioStats> entry : scenarios.entrySet()) {
+            writeDistribution(directory.resolve(entry.getKey().key() + ".hgrm"), entry.getValue().histogram);
+        }
+        writeDistribution(directory.resolve("total.hgrm"), total().histogram);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("startedAt", startedAt.toString());
+        json.put("durationSeconds", elapsedNanos / 1e9);
+        Map<String, Object> settingsJson = new LinkedHashMap<>();
+        settingsJson.put("products", settings.products());
+        settingsJson.put("seed", settings.seed());
+        settingsJson.put("concurrency", settings.concurrency());
+        settingsJson.put("rate", settings.rate());
+        settingsJson.put("hotProducts", settings.hotProducts());
+        settingsJson.put("mix", settings.mix().entrySet().stream().collect(Collectors.toMap(
+                mix -> mix.getKey().key(), Map.Entry::getValue, Integer::sum, LinkedHashMap::new)));
+        json.put("settings", settingsJson);
+        Map<String, Object> scenarioJson = new LinkedHashMap<>();
+        scenarios.forEach((scenario, stats) -> scenarioJson.put(scenario.key(), stats.toJson(elapsedNanos)));
+        json.put("scenarios", scenarioJson);
+        json.put("total", totalJson());
+        json.put("peakThreads", peakThreads);
+        json.put("heapUsedMegabytes", heapUsedBytes / (1024.0 * 1024.0));
+        if (pinnedThreadEvents >= 0) {
+            json.put("pinnedThreadEvents", pinnedThreadEvents);
+        }
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(directory.resolve("report.json").toFile(), json);
+        Files.writeString(directory.resolve("report.txt"), summary());
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(header("scenario"));
+        scenarios.forEach((scenario, stats) -> summary.append(stats.line(scenario.key(), elapsedNanos)));
+        summary.append(totalLine("total"));
+        summary.append(String.format("peak JVM threads: %d, heap used at the end: %.1f MB%n", peakThreads, heapUsedBytes / (1024.0 * 1024.0)));
+        if (pinnedThreadEvents >= 0) {
+            summary.append(String.format("pinned virtual thread events: %d%n", pinnedThreadEvents));
+        }
+        return summary.toString();
+    }
+
+    public static String header(String label) {
+        return String.format("%-16s %9s %9s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+                label, "requests", "req/s", "4xx", "errors", "error %", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    public String totalLine(String label) {
+        return total().line(label, elapsedNanos);
+    }
+
+    public Map<String, Object> totalJson() {
+        return total().toJson(elapsedNanos);
+    }
+
+    public long pinnedThreadEvents() {
+        return pinnedThreadEvents;
+    }
+
+    private ScenarioStats total() {
+        ScenarioStats total = new ScenarioStats();
+        for (ScenarioStats stats : scenarios.values()) {
+            total.histogram.add(stats.histogram);
+            total.succeeded.add(stats.succeeded.sum());
+            total.rejected.add(stats.rejected.sum());
+            total.errors.add(stats.errors.sum());
+        }
+        return total;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static final class ScenarioStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long latencyNanos) {
+            histogram.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), HIGHEST_TRACKABLE_MICROS));
+        }
+
+        private long requests() {
+            return histogram.getTotalCount();
+        }
+
+        private double throughput(long elapsedNanos) {
+            return elapsedNanos > 0 ? requests() * 1e9 / elapsedNanos : 0;
+        }
+
+        private double errorRate() {
+            return requests() > 0 ? errors.sum() * 100.0 / requests() : 0;
+        }
+
+        private double percentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+        }
+
+        private String line(String name, long elapsedNanos) {
+            return String.format("%-16s %9d %9.1f %8d %8d %9.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, requests(), throughput(elapsedNanos), rejected.sum(), errors.sum(), errorRate(),
+                    percentile(50), percentile(90), percentile(99), percentile(99.9), histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+
+        private Map<String, Object> toJson(long elapsedNanos) {
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("mean", histogram.getMean() / MICROS_PER_MILLI);
+            latency.put("p50", percentile(50));
+            latency.put("p90", percentile(90));
+            latency.put("p99", percentile(99));
+            latency.put("p999", percentile(99.9));
+            latency.put("max", histogram.getMaxValue() / MICROS_PER_MILLI);
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("requests", requests());
+            json.put("succeeded", succeeded.sum());
+            json.put("rejected", rejected.sum());
+            json.put("errors", errors.sum());
+            json.put("errorRate", errorRate() / 100);
+            json.put("throughput", throughput(elapsedNanos));
+            json.put("latencyMillis", latency);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import br.com.lmuniz.desafio.senai.SenaiIsiChallengeApplication;
+import br.com.lmuniz.desafio.senai.config.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report = run(settings, settings.outputDirectory(), args);
+        System.out.println(report.summary());
+        System.out.println("Load test report written to " + settings.outputDirectory().toAbsolutePath());
+    }
+
+    static LoadTestReport run(LoadTestSettings settings, Path outputDirectory, String... applicationOverrides) throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(SenaiIsiChallengeApplication.class, settings.applicationArguments(applicationOverrides));
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1");
+            LoadTestData data = LoadTestData.load(context.getBean(JdbcTemplate.class), settings.hotProducts());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+
+            LoadTest loadTest = new LoadTest(client, baseUri, data, settings, executor);
+            if (!settings.warmup().isZero()) {
+                loadTest.run(settings.warmup());
+            }
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            LoadTestReport report = loadTest.run(settings.duration());
+            report.recordJvmUsage(threads.getPeakThreadCount(), ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+            if (!context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()) {
+                report.recordPinnedThreadEvents(pinnedThreadEvents(context.getBean(MeterRegistry.class)));
+            }
+            report.write(outputDirectory, settings);
+            return report;
+        }
+    }
+
+    private static long pinnedThreadEvents(MeterRegistry registry) {
+        return Math.round(registry.find("jvm.threads.virtual.pinned").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum());
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum LoadTestScenario {
+
+    LIST("list") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            return get(baseUri, "/products?page=" + random.nextInt(50) + "&size=20");
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            String term = data.searchTerms().get(random.nextInt(data.searchTerms().size()));
+            return get(baseUri, "/products?size=20&search=" + URLEncoder.encode(term, StandardCharsets.UTF_8));
+        }
+    },
+    REACTIVE_LIST("reactive-list") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            return get(baseUri, "/reactive/products?page=" + random.nextInt(50) + "&size=20");
+        }
+    },
+    REACTIVE_SEARCH("reactive-search") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            String term = data.searchTerms().get(random.nextInt(data.searchTerms().size()));
+            return get(baseUri, "/reactive/products?size=20&search=" + URLEncoder.encode(term, StandardCharsets.UTF_8));
+        }
+    },
+    APPLY_COUPON("apply-coupon") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            String code = data.couponCodes().get(random.nextInt(data.couponCodes().size()));
+            return builder(baseUri, "/products/" + data.hotProductId(random) + "/discount/coupon")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"code\": \"" + code + "\"}"))
+                    .build();
+        }
+    },
+    REMOVE_DISCOUNT("remove-discount") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            return builder(baseUri, "/products/" + data.hotProductId(random) + "/discount").DELETE().build();
+        }
+    },
+    PATCH("patch") {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random) {
+            return builder(baseUri, "/products/" + data.hotProductId(random))
+                    .header("Content-Type", "application/json-patch+json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "[{\"op\": \"replace\", \"path\": \"/stock\", \"value\": " + random.nextInt(1, 500) + "}]"))
+                    .build();
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+
+    LoadTestScenario(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    abstract HttpRequest request(URI baseUri, LoadTestData data, ThreadLocalRandom random);
+
+    public static LoadTestScenario fromKey(String key) {
+        for (LoadTestScenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key.strip())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario '" + key + "'.");
+    }
+
+    private static HttpRequest get(URI baseUri, String path) {
+        return builder(baseUri, path).GET().build();
+    }
+
+    private static HttpRequest.Builder builder(URI baseUri, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(REQUEST_TIMEOUT);
+    }
+}
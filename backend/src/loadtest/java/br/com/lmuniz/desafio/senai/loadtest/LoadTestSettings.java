@@ -0,0 +1,64 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestSettings(
+        int products,
+        long seed,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int rate,
+        int hotProducts,
+        Map<LoadTestScenario, Integer> mix,
+        Path outputDirectory
+) {
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.products", 100_000),
+                Long.getLong("loadtest.seed", 42L),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Integer.getInteger("loadtest.rate", 0),
+                Integer.getInteger("loadtest.hot-products", 1_000),
+                parseMix(System.getProperty("loadtest.mix", "list:50,search:25,apply-coupon:10,remove-discount:10,patch:5")),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest"))
+        );
+    }
+
+    public String[] applicationArguments(String... overrides) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.profiles.active=dev,synthetic",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--synthetic-data.products=" + products,
+                "--synthetic-data.seed=" + seed
+        ));
+        arguments.addAll(List.of(overrides));
+        return arguments.toArray(String[]::new);
+    }
+
+    static Map<LoadTestScenario, Integer> parseMix(String mix) {
+        Map<LoadTestScenario, Integer> weights = new EnumMap<>(LoadTestScenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load test mix entry '" + entry + "'. Use scenario:weight.");
+            }
+            int weight = Integer.parseInt(parts[1].strip());
+            if (weight > 0) {
+                weights.merge(LoadTestScenario.fromKey(parts[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The load test mix must have at least one scenario with a positive weight.");
+        }
+        return weights;
+    }
+}
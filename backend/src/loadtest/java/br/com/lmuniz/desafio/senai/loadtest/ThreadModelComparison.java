@@ -0,0 +1,74 @@
+package br.com.lmuniz.desafio.senai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ThreadModelComparison {
+
+    private static final List<ThreadModel> MODELS = List.of(
+            new ThreadModel("platform", false),
+            new ThreadModel("virtual", true));
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        Map<String, JsonNode> reports = new LinkedHashMap<>();
+        for (ThreadModel model : MODELS) {
+            Path output = settings.outputDirectory().resolve(model.name());
+            int exitCode = new ProcessBuilder(command(model, output)).inheritIO().start().waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("The " + model.name() + " thread load test exited with code " + exitCode);
+            }
+            reports.put(model.name(), mapper.readTree(output.resolve("report.json").toFile()));
+        }
+
+        StringBuilder summary = new StringBuilder(String.format("%-10s %9s %9s %8s %9s %9s %9s %9s %9s %8s%n",
+                "threads", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "pinned"));
+        Map<String, Object> json = new LinkedHashMap<>();
+        reports.forEach((model, report) -> {
+            JsonNode total = report.get("total");
+            JsonNode latency = total.get("latencyMillis");
+            JsonNode pinned = report.get("pinnedThreadEvents");
+            summary.append(String.format("%-10s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f %8s%n",
+                    model, total.get("requests").asLong(), total.get("throughput").asDouble(), total.get("errors").asLong(),
+                    latency.get("p50").asDouble(), latency.get("p90").asDouble(), latency.get("p99").asDouble(),
+                    latency.get("p999").asDouble(), latency.get("max").asDouble(),
+                    pinned == null ? "-" : pinned.asText()));
+            json.put(model, report);
+        });
+
+        Files.createDirectories(settings.outputDirectory());
+        mapper.writeValue(settings.outputDirectory().resolve("comparison.json").toFile(), json);
+        Files.writeString(settings.outputDirectory().resolve("comparison.txt"), summary);
+        System.out.println(summary);
+        System.out.println("Thread model comparison written to " + settings.outputDirectory().toAbsolutePath());
+    }
+
+    private static List<String> command(ThreadModel model, Path output) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> !argument.startsWith("-Dloadtest.output="))
+                .forEach(command::add);
+        command.add("-Dloadtest.output=" + output);
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadTestRunner.class.getName());
+        command.add("--spring.profiles.include=virtual-threads");
+        command.add("--spring.threads.virtual.enabled=" + model.virtual());
+        return command;
+    }
+
+    private record ThreadModel(String name, boolean virtual) {
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.lmuniz.desafio.senai.caches;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponSnapshot;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Component
+public class CouponCache {
+
+    private final AsyncCache<String, Optional<CouponSnapshot>> cache;
+
+    public CouponCache(@Value("${coupon-cache.maximum-size}") long maximumSize,
+                       @Value("${coupon-cache.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<CouponSnapshot> get(String normalizedCode, Function<String, Optional<CouponSnapshot>> loader) {
+        CompletableFuture<Optional<CouponSnapshot>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<CouponSnapshot>> cached = cache.get(normalizedCode, (code, executor) -> loading);
+        if (cached != loading) {
+            try {
+                return cached.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            Optional<CouponSnapshot> snapshot = loader.apply(normalizedCode);
+            loading.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void evictAfterCompletion(String... normalizedCodes) {
+        List<String> codes = Arrays.stream(normalizedCodes)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.synchronous().invalidateAll(codes);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.synchronous().invalidateAll(codes);
+            }
+        });
+    }
+
+    public Cache<String, Optional<CouponSnapshot>> getNativeCache() {
+        return cache.synchronous();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.lmuniz.desafio.senai.caches;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogVersion catalogVersion;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory, CatalogVersion catalogVersion) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public void evictProducts(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        evictNowAndAfterCompletion(cache -> ids.forEach(id -> cache.evictEntityData(Product.class, id)));
+    }
+
+    public void evictEntity(Class<?> entityClass, Object id) {
+        evictNowAndAfterCompletion(cache -> cache.evictEntityData(entityClass, id));
+    }
+
+    public void evictEntities(Class<?> entityClass) {
+        evictNowAndAfterCompletion(cache -> {
+            cache.evictEntityData(entityClass);
+            cache.evictDefaultQueryRegion();
+        });
+    }
+
+    public void evictAll() {
+        evictNowAndAfterCompletion(Cache::evictAll);
+    }
+
+    private void evictNowAndAfterCompletion(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        catalogVersion.changed();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
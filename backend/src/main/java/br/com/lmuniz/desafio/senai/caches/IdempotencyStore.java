@@ -0,0 +1,47 @@
+package br.com.lmuniz.desafio.senai.caches;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class IdempotencyStore {
+
+    private final AsyncCache<String, StoredResponse> cache;
+
+    public IdempotencyStore(@Value("${idempotency.maximum-size}") long maximumSize,
+                            @Value("${idempotency.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .buildAsync();
+    }
+
+    public CompletableFuture<StoredResponse> claim(String key, CompletableFuture<StoredResponse> pending) {
+        return cache.get(key, (ignored, executor) -> pending);
+    }
+
+    public Optional<StoredResponse> await(CompletableFuture<StoredResponse> stored, Duration timeout) throws TimeoutException {
+        try {
+            return Optional.of(stored.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for the original request.");
+        }
+    }
+
+    public record StoredResponse(byte[] requestDigest, int status, Map<String, List<String>> headers, byte[] body) {
+    }
+}
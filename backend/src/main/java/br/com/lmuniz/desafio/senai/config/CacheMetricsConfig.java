@@ -0,0 +1,16 @@
+package br.com.lmuniz.desafio.senai.config;
+
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MeterBinder couponCacheMetrics(CouponCache couponCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, couponCache.getNativeCache(), "coupons");
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.lmuniz.desafio.senai.config;
+
+import br.com.lmuniz.desafio.senai.caches.IdempotencyStore;
+import br.com.lmuniz.desafio.senai.controllers.filters.IdempotencyFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                                                                       @Value("${idempotency.in-flight-timeout}") Duration inFlightTimeout) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, objectMapper, inFlightTimeout));
+        registration.addUrlPatterns("/api/v1/products", "/api/v1/products/*", "/api/v1/coupons", "/api/v1/coupons/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.lmuniz.desafio.senai.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+public class ReactiveDataConfig implements DisposableBean {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveDataConfig(DataSourceProperties dataSourceProperties,
+                              @Value("${reactive-data.url}") String url,
+                              @Value("${reactive-data.pool.initial-size}") int initialSize,
+                              @Value("${reactive-data.pool.max-size}") int maxSize,
+                              @Value("${reactive-data.pool.max-acquire-time}") Duration maxAcquireTime) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory(dataSourceProperties, url))
+                .name("reactive-products")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static ConnectionFactory connectionFactory(DataSourceProperties dataSourceProperties, String url) {
+        if (url != null && !url.isBlank()) {
+            return ConnectionFactories.get(url);
+        }
+
+        String jdbcUrl = dataSourceProperties.determineUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("Set reactive-data.url to read products reactively from '" + jdbcUrl + "'.");
+        }
+        H2ConnectionConfiguration.Builder configuration = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername());
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            configuration.password(password);
+        }
+        return new H2ConnectionFactory(configuration.build());
+    }
+}
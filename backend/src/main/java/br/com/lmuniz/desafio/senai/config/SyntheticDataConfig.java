@@ -0,0 +1,21 @@
+package br.com.lmuniz.desafio.senai.config;
+
+import br.com.lmuniz.desafio.senai.services.SyntheticDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("synthetic")
+public class SyntheticDataConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataConfig.class);
+
+    @Bean
+    public ApplicationRunner syntheticDataRunner(SyntheticDataService syntheticDataService) {
+        return args -> logger.info("Synthetic data generated: {}", syntheticDataService.generate());
+    }
+}
@@ -1,12 +1,17 @@
 package br.com.lmuniz.desafio.senai.controllers;
 
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.BulkCouponApplicationDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDetailsDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountResultDTO;
 import br.com.lmuniz.desafio.senai.services.CouponService;
-import com.github.fge.jsonpatch.JsonPatch;
+import br.com.lmuniz.desafio.senai.services.ProductBulkService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -17,9 +22,11 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final ProductBulkService productBulkService;
 
-    public CouponController(CouponService couponService) {
+    public CouponController(CouponService couponService, ProductBulkService productBulkService) {
         this.couponService = couponService;
+        this.productBulkService = productBulkService;
     }
 
     @PostMapping
@@ -36,21 +43,32 @@ public class CouponController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CouponDetailsDTO> getCouponById(@PathVariable Long id){
-        return ResponseEntity.ok(couponService.getCouponById(id));
+    public ResponseEntity<CouponDetailsDTO> getCouponById(@PathVariable Long id, WebRequest request){
+        String eTag = couponService.getCouponETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(couponService.getCouponById(id));
+    }
+
+    @PostMapping("/{code}/apply")
+    public ResponseEntity<BulkDiscountResultDTO> applyCouponToProducts(@PathVariable String code, @Valid @RequestBody BulkCouponApplicationDTO bulkCouponApplicationDTO) {
+        return ResponseEntity.ok(productBulkService.applyCouponDiscount(code, bulkCouponApplicationDTO));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCoupon(@PathVariable Long id) {
-        couponService.deleteCoupon(id);
+    public ResponseEntity<Void> deleteCoupon(@PathVariable Long id,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        couponService.deleteCoupon(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping(value = "/{id}", consumes = "application/json-patch+json")
     public ResponseEntity<CouponDetailsDTO> partialUpdateCoupon(
             @PathVariable Long id,
-            @RequestBody JsonPatch patch) {
-        CouponDetailsDTO updatedCoupon = couponService.partialUpdateCoupon(id, patch);
-        return ResponseEntity.ok(updatedCoupon);
+            @RequestBody JsonNode patch,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CouponDetailsDTO updatedCoupon = couponService.partialUpdateCoupon(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(couponService.getCouponETag(id)).body(updatedCoupon);
     }
 }
@@ -1,18 +1,33 @@
 package br.com.lmuniz.desafio.senai.controllers;
 
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDirectDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountResultDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DirectPercentageDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.imports.ProductImportResultDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductSliceDTO;
+import br.com.lmuniz.desafio.senai.domains.enums.ExportFormatEnum;
+import br.com.lmuniz.desafio.senai.services.ProductBulkService;
+import br.com.lmuniz.desafio.senai.services.ProductExportService;
+import br.com.lmuniz.desafio.senai.services.ProductImportService;
 import br.com.lmuniz.desafio.senai.services.ProductService;
-import com.github.fge.jsonpatch.JsonPatch;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URI;
 
@@ -21,9 +36,15 @@ import java.net.URI;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductBulkService productBulkService;
+    private final ProductImportService productImportService;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductExportService productExportService, ProductBulkService productBulkService, ProductImportService productImportService) {
         this.productService = productService;
+        this.productExportService = productExportService;
+        this.productBulkService = productBulkService;
+        this.productImportService = productImportService;
     }
 
     @PostMapping
@@ -35,8 +56,9 @@ public class ProductController {
     }
 
     @DeleteMapping("{id}")
-    public ResponseEntity<Void> softDeleteProduct(@PathVariable Long id) {
-        productService.softDeleteProduct(id);
+    public ResponseEntity<Void> softDeleteProduct(@PathVariable Long id,
+                                                  @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.softDeleteProduct(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -46,9 +68,13 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDTO> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductDTO> getProductById(@PathVariable Long id, WebRequest request) {
+        String eTag = productService.getProductETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         ProductDTO productDTO = productService.getProductById(id);
-        return ResponseEntity.ok(productDTO);
+        return ResponseEntity.ok().eTag(eTag).body(productDTO);
     }
 
     @PostMapping("/{id}/discount/coupon")
@@ -63,6 +89,11 @@ public class ProductController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/discount/percent")
+    public ResponseEntity<BulkDiscountResultDTO> applyBulkDirectPercentDiscount(@Valid @RequestBody BulkDirectDiscountDTO bulkDirectDiscountDTO) {
+        return ResponseEntity.ok(productBulkService.applyDirectPercentDiscount(bulkDirectDiscountDTO));
+    }
+
     @DeleteMapping("/{id}/discount")
     public ResponseEntity<Void> removeDiscount(@PathVariable Long id) {
         productService.removeDiscount(id);
@@ -72,8 +103,10 @@ public class ProductController {
     @PatchMapping(value = "{id}", consumes = "application/json-patch+json")
     public ResponseEntity<ProductDTO> partialUpdateProduct(
             @PathVariable Long id,
-            @RequestBody JsonPatch patch) {
-        return ResponseEntity.ok(productService.partialUpdateProduct(id, patch));
+            @RequestBody JsonNode patch,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductDTO productDTO = productService.partialUpdateProduct(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(productService.getProductETag(id)).body(productDTO);
     }
 
     @GetMapping
@@ -84,9 +117,55 @@ public class ProductController {
                                @RequestParam(name = "hasDiscount", required = false) Boolean hasDiscount,
                                @RequestParam(name = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
                                @RequestParam(name = "onlyOutOfStock", required = false) Boolean onlyOutOfStock,
-                               @RequestParam(name = "withCouponApplied", required = false) Boolean withCouponApplied) {
+                               @RequestParam(name = "withCouponApplied", required = false) Boolean withCouponApplied,
+                               WebRequest request) {
+
+        String eTag = productService.getCatalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getAllProducts(pageable, search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
+
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<ProductSliceDTO> getProductsAfter(@RequestParam(name = "after") String after,
+                               Pageable pageable,
+                               @RequestParam(name = "search", required = false) String search,
+                               @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+                               @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+                               @RequestParam(name = "hasDiscount", required = false) Boolean hasDiscount,
+                               @RequestParam(name = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
+                               @RequestParam(name = "onlyOutOfStock", required = false) Boolean onlyOutOfStock,
+                               @RequestParam(name = "withCouponApplied", required = false) Boolean withCouponApplied,
+                               WebRequest request) {
+
+        String eTag = productService.getCatalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getProductsAfter(after, pageable.getPageSize(), pageable.getSort(), search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
+    }
 
-        return ResponseEntity.ok(productService.getAllProducts(pageable, search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                               @RequestParam(name = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted) {
+
+        ExportFormatEnum exportFormat = productExportService.resolveFormat(format);
+        StreamingResponseBody body = outputStream -> productExportService.exportProducts(exportFormat, includeDeleted, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 
+    @PostMapping("/import")
+    public ResponseEntity<ProductImportResultDTO> importProducts(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                                 InputStream body) throws IOException {
+        ExportFormatEnum importFormat = productImportService.resolveFormat(format);
+        return ResponseEntity.ok(productImportService.importProducts(importFormat, body));
     }
 }
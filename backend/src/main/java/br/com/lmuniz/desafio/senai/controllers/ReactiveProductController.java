@@ -0,0 +1,45 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.services.ReactiveProductService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/api/v1/reactive/products")
+public class ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    public ReactiveProductController(ReactiveProductService reactiveProductService) {
+        this.reactiveProductService = reactiveProductService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductDiscountDTO>> getProductById(@PathVariable Long id) {
+        return reactiveProductService.getProductById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<ProductDiscountDTO>> getAllProducts(Pageable pageable,
+                               @RequestParam(name = "search", required = false) String search,
+                               @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+                               @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+                               @RequestParam(name = "hasDiscount", required = false) Boolean hasDiscount,
+                               @RequestParam(name = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
+                               @RequestParam(name = "onlyOutOfStock", required = false) Boolean onlyOutOfStock,
+                               @RequestParam(name = "withCouponApplied", required = false) Boolean withCouponApplied) {
+
+        return ResponseEntity.ok(reactiveProductService.getAllProducts(pageable, search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
+    }
+}
@@ -5,8 +5,12 @@ import br.com.lmuniz.desafio.senai.controllers.exceptions.StandardException;
 import br.com.lmuniz.desafio.senai.controllers.exceptions.ValidationException;
 import br.com.lmuniz.desafio.senai.services.exceptions.*;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +46,42 @@ public class ExceptionControllerHandler {
         return ResponseEntity.status(status).body(error);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardException> concurrentModification(OptimisticLockingFailureException e, HttpServletRequest request) {
+        StandardException error = new StandardException();
+        HttpStatus status = HttpStatus.CONFLICT;
+        error.setTimestamp(Instant.now());
+        error.setStatus(status.value());
+        error.setError("Resource conflict exception");
+        error.setMessage("The resource was modified by another request. Reload it and try again.");
+        error.setPath(request.getRequestURI());
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<StandardException> integrityViolation(DataIntegrityViolationException e, HttpServletRequest request) {
+        StandardException error = new StandardException();
+        HttpStatus status = HttpStatus.CONFLICT;
+        error.setTimestamp(Instant.now());
+        error.setStatus(status.value());
+        error.setError("Resource conflict exception");
+        error.setMessage("The request conflicts with the current state of the resource. Reload it and try again.");
+        error.setPath(request.getRequestURI());
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<StandardException> preconditionFailed(PreconditionFailedException e, HttpServletRequest request) {
+        StandardException error = new StandardException();
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        error.setTimestamp(Instant.now());
+        error.setStatus(status.value());
+        error.setError("Precondition failed exception");
+        error.setMessage(e.getMessage());
+        error.setPath(request.getRequestURI());
+        return ResponseEntity.status(status).body(error);
+    }
+
     @ExceptionHandler(BusinessRuleException.class)
     public ResponseEntity<ValidationException> businessRuleException(BusinessRuleException e, HttpServletRequest request) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -88,6 +128,18 @@ public class ExceptionControllerHandler {
         return ResponseEntity.status(status).body(error);
     }
 
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<StandardException> connectionUnavailable(RuntimeException e, HttpServletRequest request) {
+        StandardException error = new StandardException();
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        error.setTimestamp(Instant.now());
+        error.setStatus(status.value());
+        error.setError("Database connection unavailable");
+        error.setMessage("No database connection became available in time. Please retry the request.");
+        error.setPath(request.getRequestURI());
+        return ResponseEntity.status(status).header("Retry-After", "1").body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationException> validation(MethodArgumentNotValidException e, HttpServletRequest request) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -0,0 +1,207 @@
+package br.com.lmuniz.desafio.senai.controllers.filters;
+
+import br.com.lmuniz.desafio.senai.caches.IdempotencyStore;
+import br.com.lmuniz.desafio.senai.controllers.exceptions.StandardException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String IMPORT_PATH = "/api/v1/products/import";
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTimeout;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, Duration inFlightTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(IDEMPOTENCY_KEY) == null
+                || !(HttpMethod.POST.matches(method) || HttpMethod.DELETE.matches(method))
+                || IMPORT_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY).strip();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "Invalid idempotency key",
+                    "The " + IDEMPOTENCY_KEY + " header must have between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        byte[] body = request.getInputStream().readAllBytes();
+        byte[] requestDigest = digest(body);
+
+        while (true) {
+            CompletableFuture<IdempotencyStore.StoredResponse> pending = new CompletableFuture<>();
+            CompletableFuture<IdempotencyStore.StoredResponse> stored = idempotencyStore.claim(key, pending);
+            if (stored == pending) {
+                execute(new CachedBodyRequest(request, body), response, filterChain, requestDigest, pending);
+                return;
+            }
+
+            Optional<IdempotencyStore.StoredResponse> original;
+            try {
+                original = idempotencyStore.await(stored, inFlightTimeout);
+            } catch (TimeoutException e) {
+                writeError(request, response, HttpStatus.CONFLICT, "Resource conflict exception",
+                        "A request with this " + IDEMPOTENCY_KEY + " is still being processed. Retry it later.");
+                return;
+            }
+            if (original.isPresent()) {
+                if (!MessageDigest.isEqual(requestDigest, original.get().requestDigest())) {
+                    writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key mismatch",
+                            "This " + IDEMPOTENCY_KEY + " was already used with a different request body.");
+                    return;
+                }
+                replay(original.get(), response);
+                return;
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, byte[] requestDigest,
+                         CompletableFuture<IdempotencyStore.StoredResponse> pending) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (Throwable e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+
+        if (wrapper.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            pending.completeExceptionally(new IllegalStateException("Request failed with status " + wrapper.getStatus()));
+        } else {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                    headers.put(name, List.copyOf(wrapper.getHeaders(name)));
+                }
+            }
+            if (wrapper.getContentType() != null) {
+                headers.put(HttpHeaders.CONTENT_TYPE, List.of(wrapper.getContentType()));
+            }
+            pending.complete(new IdempotencyStore.StoredResponse(requestDigest, wrapper.getStatus(), headers, wrapper.getContentAsByteArray()));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static byte[] digest(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void replay(IdempotencyStore.StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String error, String message) throws IOException {
+        StandardException body = new StandardException();
+        body.setTimestamp(Instant.now());
+        body.setStatus(status.value());
+        body.setError(error);
+        body.setMessage(message);
+        body.setPath(request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
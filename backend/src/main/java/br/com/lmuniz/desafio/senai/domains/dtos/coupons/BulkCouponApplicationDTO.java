@@ -0,0 +1,12 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.coupons;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCouponApplicationDTO(
+        @NotEmpty(message = "Required field")
+        @Size(max = 5000, message = "A maximum of 5000 product ids is allowed per request")
+        List<Long> productIds) {
+}
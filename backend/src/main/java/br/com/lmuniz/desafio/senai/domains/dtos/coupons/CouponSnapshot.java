@@ -0,0 +1,33 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.coupons;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record CouponSnapshot(
+        Long id,
+        String code,
+        CouponEnum type,
+        BigDecimal value,
+        boolean oneShot,
+        Integer maxUses,
+        Instant validFrom,
+        Instant validUntil,
+        Instant deletedAt
+) {
+    public CouponSnapshot(Coupon entity) {
+        this(
+                entity.getId(),
+                entity.getCode(),
+                entity.getType(),
+                entity.getValue(),
+                entity.getOneShot(),
+                entity.getMaxUses(),
+                entity.getValidFrom(),
+                entity.getValidUntil(),
+                entity.getDeletedAt()
+        );
+    }
+}
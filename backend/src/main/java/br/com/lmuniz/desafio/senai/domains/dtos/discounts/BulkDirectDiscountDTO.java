@@ -0,0 +1,20 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.discounts;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BulkDirectDiscountDTO(
+        @NotNull(message = "Required field")
+        @Min(value = 1, message = "Discount must be at least 1%")
+        @Max(value = 80, message = "Discount cannot exceed 80%")
+        BigDecimal percentage,
+        @Size(max = 1000, message = "A maximum of 1000 ids is allowed per request")
+        List<Long> ids,
+        ProductFilterDTO filter) {
+}
@@ -0,0 +1,15 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.discounts;
+
+import br.com.lmuniz.desafio.senai.domains.enums.BulkDiscountStatusEnum;
+
+import java.math.BigDecimal;
+
+public record BulkDiscountItemDTO(
+        Long productId,
+        BulkDiscountStatusEnum status,
+        BigDecimal finalPrice
+) {
+    public BulkDiscountItemDTO(Long productId, BulkDiscountStatusEnum status) {
+        this(productId, status, null);
+    }
+}
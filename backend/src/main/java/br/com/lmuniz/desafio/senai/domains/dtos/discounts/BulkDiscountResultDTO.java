@@ -0,0 +1,27 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.discounts;
+
+import br.com.lmuniz.desafio.senai.domains.enums.BulkDiscountStatusEnum;
+
+import java.util.List;
+
+public record BulkDiscountResultDTO(
+        int requested,
+        int applied,
+        int replaced,
+        int skipped,
+        List<BulkDiscountItemDTO> items
+) {
+    public BulkDiscountResultDTO(List<BulkDiscountItemDTO> items) {
+        this(
+                items.size(),
+                count(items, BulkDiscountStatusEnum.APPLIED),
+                count(items, BulkDiscountStatusEnum.REPLACED),
+                items.size() - count(items, BulkDiscountStatusEnum.APPLIED) - count(items, BulkDiscountStatusEnum.REPLACED),
+                items
+        );
+    }
+
+    private static int count(List<BulkDiscountItemDTO> items, BulkDiscountStatusEnum status) {
+        return (int) items.stream().filter(item -> item.status() == status).count();
+    }
+}
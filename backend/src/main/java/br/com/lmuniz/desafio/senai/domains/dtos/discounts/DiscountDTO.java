@@ -1,5 +1,6 @@
 package br.com.lmuniz.desafio.senai.domains.dtos.discounts;
 
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponSnapshot;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
 import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
 
@@ -18,4 +19,12 @@ public record DiscountDTO(
                 productCouponApplication.getAppliedAt()
         );
     }
+
+    public DiscountDTO(CouponSnapshot coupon, ProductCouponApplication productCouponApplication) {
+        this(
+                coupon.type().getTypeValue(),
+                coupon.value(),
+                productCouponApplication.getAppliedAt()
+        );
+    }
 }
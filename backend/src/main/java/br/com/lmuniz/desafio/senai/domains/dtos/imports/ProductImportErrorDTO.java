@@ -0,0 +1,9 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.imports;
+
+import java.util.Map;
+
+public record ProductImportErrorDTO(
+        long line,
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,23 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.imports;
+
+import java.util.List;
+
+public record ProductImportResultDTO(
+        int processed,
+        int imported,
+        int failed,
+        long elapsedMillis,
+        long rowsPerSecond,
+        List<ProductImportErrorDTO> errors
+) {
+    public ProductImportResultDTO(int processed, int imported, long elapsedNanos, List<ProductImportErrorDTO> errors) {
+        this(
+                processed,
+                imported,
+                processed - imported,
+                elapsedNanos / 1_000_000L,
+                elapsedNanos > 0 ? processed * 1_000_000_000L / elapsedNanos : processed,
+                errors
+        );
+    }
+}
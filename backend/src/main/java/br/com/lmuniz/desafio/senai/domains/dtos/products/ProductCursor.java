@@ -0,0 +1,62 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.products;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+public record ProductCursor(String property, Sort.Direction direction, String value, Long id) {
+
+    public static final List<String> SORTABLE_PROPERTIES = List.of("id", "name", "price", "finalPrice", "stock", "createdAt");
+
+    public static ProductCursor of(Sort.Order order, Product last) {
+        return new ProductCursor(order.getProperty(), order.getDirection(), valueOf(order.getProperty(), last), last.getId());
+    }
+
+    public static ProductCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = decoded.split(",", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        ProductCursor cursor = new ProductCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[3], Long.valueOf(parts[2]));
+        cursor.typedValue();
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = property + "," + direction.name() + "," + id + "," + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort.Order order() {
+        return new Sort.Order(direction, property);
+    }
+
+    public Comparable<?> typedValue() {
+        return switch (property) {
+            case "id" -> Long.valueOf(value);
+            case "name" -> value;
+            case "price", "finalPrice" -> new BigDecimal(value);
+            case "stock" -> Integer.valueOf(value);
+            case "createdAt" -> Instant.parse(value);
+            default -> throw new IllegalArgumentException("Unsupported cursor property: " + property);
+        };
+    }
+
+    private static String valueOf(String property, Product product) {
+        return switch (property) {
+            case "id" -> product.getId().toString();
+            case "name" -> product.getName();
+            case "price" -> product.getPrice().toPlainString();
+            case "finalPrice" -> product.getFinalPrice().toPlainString();
+            case "stock" -> product.getStock().toString();
+            case "createdAt" -> product.getCreatedAt().toString();
+            default -> throw new IllegalArgumentException("Unsupported cursor property: " + property);
+        };
+    }
+}
@@ -2,6 +2,8 @@ package br.com.lmuniz.desafio.senai.domains.dtos.products;
 
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DiscountDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -34,4 +36,18 @@ public record ProductDiscountDTO(
                 product.getUpdatedAt()
         );
     }
+
+    public ProductDiscountDTO(ProductListingProjection row) {
+        this(row.product(), row.product().getFinalPrice(), discountOf(row), row.hasCouponApplied());
+    }
+
+    private static DiscountDTO discountOf(ProductListingProjection row) {
+        if (row.hasCouponApplied()) {
+            return new DiscountDTO(row.couponType().getTypeValue(), row.couponValue(), row.couponAppliedAt());
+        }
+        if (row.hasDirectDiscount()) {
+            return new DiscountDTO(CouponEnum.PERCENT.getTypeValue(), row.directDiscountPercentage(), row.directDiscountAppliedAt());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,14 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.products;
+
+import java.math.BigDecimal;
+
+public record ProductFilterDTO(
+        String search,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean hasDiscount,
+        Boolean includeDeleted,
+        Boolean onlyOutOfStock,
+        Boolean withCouponApplied
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.products;
+
+import java.util.List;
+
+public record ProductSliceDTO(
+        List<ProductDiscountDTO> content,
+        int size,
+        int numberOfElements,
+        String next,
+        boolean last
+) {
+}
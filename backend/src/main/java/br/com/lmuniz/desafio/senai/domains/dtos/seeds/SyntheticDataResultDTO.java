@@ -0,0 +1,30 @@
+package br.com.lmuniz.desafio.senai.domains.dtos.seeds;
+
+public record SyntheticDataResultDTO(
+        long seed,
+        long products,
+        long searchTerms,
+        long coupons,
+        long couponApplications,
+        long directDiscountApplications,
+        long totalRows,
+        long elapsedMillis,
+        long rowsPerSecond
+) {
+    public SyntheticDataResultDTO(long seed, long products, long searchTerms, long coupons,
+                                  long couponApplications, long directDiscountApplications, long elapsedNanos) {
+        this(
+                seed,
+                products,
+                searchTerms,
+                coupons,
+                couponApplications,
+                directDiscountApplications,
+                products + searchTerms + coupons + couponApplications + directDiscountApplications,
+                elapsedNanos / 1_000_000L,
+                elapsedNanos > 0
+                        ? (products + searchTerms + coupons + couponApplications + directDiscountApplications) * 1_000_000_000L / elapsedNanos
+                        : products + searchTerms + coupons + couponApplications + directDiscountApplications
+        );
+    }
+}
@@ -3,6 +3,8 @@ package br.com.lmuniz.desafio.senai.domains.entities;
 import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -11,6 +13,8 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "coupons")
 @Table(name = "coupons")
 public class Coupon {
 
@@ -33,6 +37,7 @@ public class Coupon {
 
     private Integer maxUses;
 
+    @Column(updatable = false)
     private Integer usesCount = 0;
 
     @Column(nullable = false, columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
@@ -50,6 +55,10 @@ public class Coupon {
     @Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
     private Instant deletedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @JsonManagedReference("coupon-application")
     @OneToMany(mappedBy = "coupon", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<ProductCouponApplication> productCouponApplications = new ArrayList<>();
@@ -163,6 +172,10 @@ public class Coupon {
         this.deletedAt = deletedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<ProductCouponApplication> getProductCouponApplications() {
         return productCouponApplications;
     }
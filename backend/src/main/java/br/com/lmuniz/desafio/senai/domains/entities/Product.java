@@ -1,7 +1,11 @@
 package br.com.lmuniz.desafio.senai.domains.entities;
 
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -10,11 +14,14 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 @Table(name = "products")
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -29,6 +36,23 @@ public class Product {
     @Column(nullable = false, scale = 2, precision = 9)
     private BigDecimal price;
 
+    @Column(nullable = false, scale = 2, precision = 9)
+    private BigDecimal finalPrice;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private ActiveDiscountEnum activeDiscountType = ActiveDiscountEnum.NONE;
+
+    @JsonIgnore
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "active_coupon_application_id", unique = true)
+    private ProductCouponApplication activeCouponApplication;
+
+    @JsonIgnore
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "active_direct_discount_application_id", unique = true)
+    private ProductDirectDiscountApplication activeDirectDiscountApplication;
+
     @Column(nullable = false)
     private Integer stock;
 
@@ -41,6 +65,10 @@ public class Product {
     @Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
     private Instant deletedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @JsonManagedReference("product-coupon_application")
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<ProductCouponApplication> productCouponApplications = new ArrayList<>();
@@ -49,6 +77,10 @@ public class Product {
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<ProductDirectDiscountApplication> productDirectDiscountApplication = new ArrayList<>();
 
+    @JsonIgnore
+    @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private final List<ProductSearchTerm> searchTerms = new ArrayList<>();
+
     public Product(){
     }
 
@@ -57,6 +89,7 @@ public class Product {
         this.normalizedName = normalizedName;
         this.description = description;
         this.price = price;
+        this.finalPrice = price;
         this.stock = stock;
     }
 
@@ -100,6 +133,38 @@ public class Product {
         this.price = price;
     }
 
+    public BigDecimal getFinalPrice() {
+        return finalPrice;
+    }
+
+    public void setFinalPrice(BigDecimal finalPrice) {
+        this.finalPrice = finalPrice;
+    }
+
+    public ActiveDiscountEnum getActiveDiscountType() {
+        return activeDiscountType;
+    }
+
+    public void setActiveDiscountType(ActiveDiscountEnum activeDiscountType) {
+        this.activeDiscountType = activeDiscountType;
+    }
+
+    public ProductCouponApplication getActiveCouponApplication() {
+        return activeCouponApplication;
+    }
+
+    public void setActiveCouponApplication(ProductCouponApplication activeCouponApplication) {
+        this.activeCouponApplication = activeCouponApplication;
+    }
+
+    public ProductDirectDiscountApplication getActiveDirectDiscountApplication() {
+        return activeDirectDiscountApplication;
+    }
+
+    public void setActiveDirectDiscountApplication(ProductDirectDiscountApplication activeDirectDiscountApplication) {
+        this.activeDirectDiscountApplication = activeDirectDiscountApplication;
+    }
+
     public Integer getStock() {
         return stock;
     }
@@ -132,6 +197,10 @@ public class Product {
         this.deletedAt = deletedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<ProductCouponApplication> getProductCouponApplications() {
         return productCouponApplications;
     }
@@ -140,6 +209,10 @@ public class Product {
         return productDirectDiscountApplication;
     }
 
+    public List<ProductSearchTerm> getSearchTerms() {
+        return searchTerms;
+    }
+
     @PrePersist
     private void onCreate() {
         createdAt = Instant.now();
@@ -2,11 +2,15 @@ package br.com.lmuniz.desafio.senai.domains.entities;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product_coupon_applications")
 @Table(name = "product_coupon_applications")
 public class ProductCouponApplication {
 
@@ -15,12 +19,12 @@ public class ProductCouponApplication {
     private Long id;
 
     @JsonBackReference("product-coupon_application")
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
     @JsonBackReference("coupon-application")
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "coupon_id", nullable = false)
     private Coupon coupon;
 
@@ -2,12 +2,16 @@ package br.com.lmuniz.desafio.senai.domains.entities;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product_direct_discount_applications")
 @Table(name = "product_direct_discount_applications")
 public class ProductDirectDiscountApplication {
 
@@ -17,7 +21,7 @@ public class ProductDirectDiscountApplication {
     private BigDecimal discountPercentage;
 
     @JsonBackReference("product-direct_discount_application")
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
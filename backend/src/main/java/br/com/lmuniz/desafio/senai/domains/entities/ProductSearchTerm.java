@@ -0,0 +1,80 @@
+package br.com.lmuniz.desafio.senai.domains.entities;
+
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+@Entity
+@Table(name = "product_search_terms",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pst_product_term", columnNames = {"product_id", "term"}))
+public class ProductSearchTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_search_term_seq_generator")
+    @SequenceGenerator(name = "product_search_term_seq_generator", sequenceName = "product_search_terms_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false, length = Utils.MAX_TOKEN_LENGTH)
+    private String term;
+
+    @Column(nullable = false)
+    private Integer weight;
+
+    public ProductSearchTerm() {
+    }
+
+    public ProductSearchTerm(Product product, String term, Integer weight) {
+        this.product = product;
+        this.term = term;
+        this.weight = weight;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public void setProduct(Product product) {
+        this.product = product;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public void setTerm(String term) {
+        this.term = term;
+    }
+
+    public Integer getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Integer weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductSearchTerm that = (ProductSearchTerm) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.lmuniz.desafio.senai.domains.enums;
+
+public enum ActiveDiscountEnum {
+    NONE,
+    COUPON,
+    DIRECT
+}
@@ -0,0 +1,13 @@
+package br.com.lmuniz.desafio.senai.domains.enums;
+
+public enum BulkDiscountStatusEnum {
+    APPLIED,
+    REPLACED,
+    NOT_FOUND,
+    DELETED,
+    COUPON_APPLIED,
+    DIRECT_APPLIED,
+    USAGE_LIMIT_REACHED,
+    INVALID_PRICE,
+    CONCURRENT_UPDATE
+}
@@ -0,0 +1,9 @@
+package br.com.lmuniz.desafio.senai.domains.enums;
+
+public enum CouponRejectionEnum {
+    NOT_FOUND,
+    DELETED,
+    OUT_OF_VALIDITY,
+    ONE_SHOT_USED,
+    USAGE_LIMIT_REACHED
+}
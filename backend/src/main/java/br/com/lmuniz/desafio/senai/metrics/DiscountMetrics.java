@@ -0,0 +1,73 @@
+package br.com.lmuniz.desafio.senai.metrics;
+
+import br.com.lmuniz.desafio.senai.domains.enums.CouponRejectionEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class DiscountMetrics {
+
+    private final Counter singleRedemptions;
+    private final Counter bulkRedemptions;
+    private final Counter couponDiscountsRemoved;
+    private final Map<CouponRejectionEnum, Counter> rejections = new EnumMap<>(CouponRejectionEnum.class);
+
+    public DiscountMetrics(MeterRegistry registry) {
+        this.singleRedemptions = redemptions(registry, "single");
+        this.bulkRedemptions = redemptions(registry, "bulk");
+        this.couponDiscountsRemoved = Counter.builder("coupon.discounts.removed")
+                .description("Coupon discounts removed from products because the coupon value or type was edited")
+                .register(registry);
+        for (CouponRejectionEnum reason : CouponRejectionEnum.values()) {
+            rejections.put(reason, Counter.builder("coupon.rejections")
+                    .description("Coupon redemptions rejected during coupon validation")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    public void couponRedeemed() {
+        afterCommit(singleRedemptions, 1);
+    }
+
+    public void couponsRedeemedInBulk(int amount) {
+        afterCommit(bulkRedemptions, amount);
+    }
+
+    public void couponDiscountsRemoved(int amount) {
+        afterCommit(couponDiscountsRemoved, amount);
+    }
+
+    public void couponRejected(CouponRejectionEnum reason) {
+        rejections.get(reason).increment();
+    }
+
+    private static Counter redemptions(MeterRegistry registry, String mode) {
+        return Counter.builder("coupon.redemptions")
+                .description("Coupon uses committed by discount applications")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    private static void afterCommit(Counter counter, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment(amount);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment(amount);
+            }
+        });
+    }
+}
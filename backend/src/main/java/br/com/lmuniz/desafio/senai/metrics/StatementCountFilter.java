@@ -0,0 +1,40 @@
+package br.com.lmuniz.desafio.senai.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final StatementCounter statementCounter;
+    private final int logThreshold;
+
+    public StatementCountFilter(StatementCounter statementCounter, int logThreshold) {
+        this.statementCounter = statementCounter;
+        this.logThreshold = logThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            String query = request.getQueryString();
+            String target = request.getMethod() + " " + request.getRequestURI() + (query == null ? "" : "?" + query);
+            StatementCounter.RequestStatements statements = statementCounter.end(target);
+            if (statements.statements() > logThreshold) {
+                log.warn("{} ran {} SQL statements, above the threshold of {}", target, statements.statements(), logThreshold);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.lmuniz.desafio.senai.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class StatementCounter {
+
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+    private final List<Consumer<RequestStatements>> listeners = new CopyOnWriteArrayList<>();
+
+    public void begin() {
+        current.set(new int[1]);
+    }
+
+    public void increment() {
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    public RequestStatements end(String request) {
+        int[] count = current.get();
+        current.remove();
+        RequestStatements statements = new RequestStatements(request, count == null ? 0 : count[0]);
+        listeners.forEach(listener -> listener.accept(statements));
+        return statements;
+    }
+
+    public Runnable addListener(Consumer<RequestStatements> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    public record RequestStatements(String request, int statements) {
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.lmuniz.desafio.senai.repositories;
 
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.repositories.projections.CouponUsageProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,9 +16,23 @@ import java.util.Optional;
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
     boolean existsByCode(String code);
 
-    @Query("SELECT c FROM Coupon c WHERE c.deletedAt IS NULL AND :now BETWEEN c.validFrom AND c.validUntil AND ((c.maxUses IS NULL AND not(c.oneShot)) OR c.usesCount < c.maxUses OR (c.maxUses IS NULL AND c.oneShot AND c.usesCount = 0))")
+    @Query("SELECT c FROM Coupon c WHERE c.deletedAt IS NULL AND :now BETWEEN c.validFrom AND c.validUntil AND ((c.maxUses IS NULL AND not(c.oneShot)) OR c.usesCount < c.maxUses OR (c.maxUses IS NULL AND c.oneShot AND c.usesCount = 0)) ORDER BY c.id")
     List<Coupon> searchValidCoupons(@Param("now") Instant now);
 
     Optional<Coupon> findByCodeAndIdNot(String code, Long id);
     Coupon findByCode(String code);
+
+    @Query("SELECT c.usesCount FROM Coupon c WHERE c.id = :id")
+    Integer findUsesCountById(@Param("id") Long id);
+
+    @Query("SELECT new br.com.lmuniz.desafio.senai.repositories.projections.CouponUsageProjection(c.usesCount, c.oneShot, c.maxUses, c.validFrom, c.validUntil, c.deletedAt) FROM Coupon c WHERE c.id = :id")
+    Optional<CouponUsageProjection> findUsageById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usesCount = c.usesCount + :amount WHERE c.id = :id AND c.deletedAt IS NULL AND :now BETWEEN c.validFrom AND c.validUntil AND (c.oneShot = false OR c.usesCount + :amount <= 1) AND (c.maxUses IS NULL OR c.usesCount + :amount <= c.maxUses)")
+    int incrementUsesCount(@Param("id") Long id, @Param("amount") int amount, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usesCount = c.usesCount - :amount WHERE c.id = :id AND c.usesCount >= :amount")
+    int decrementUsesCount(@Param("id") Long id, @Param("amount") int amount);
 }
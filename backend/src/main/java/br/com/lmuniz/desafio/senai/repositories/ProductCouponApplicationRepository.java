@@ -13,9 +13,8 @@ import java.util.List;
 @Repository
 public interface ProductCouponApplicationRepository extends JpaRepository<ProductCouponApplication, Long> {
 
-    ProductCouponApplication findByProductIdAndRemovedAtIsNull(Long productId);
-    List<ProductCouponApplication>  findAllByProductIdInAndRemovedAtIsNull(List<Long> productIds);
-    List<ProductCouponApplication> findAllByCouponIdAndRemovedAtIsNull(Long couponId);
+    @Query("SELECT pca FROM ProductCouponApplication pca WHERE pca.coupon.id = :couponId AND pca.removedAt IS NULL")
+    List<ProductCouponApplication> findAllByCouponIdAndRemovedAtIsNull(@Param("couponId") Long couponId);
     @Modifying
     @Query("UPDATE ProductCouponApplication pca SET pca.removedAt = :removedAt WHERE pca.coupon.id = :couponId AND pca.removedAt IS NULL")
     int removeActiveApplicationsByCouponId(@Param("couponId") Long couponId, @Param("removedAt") Instant removedAt);
@@ -0,0 +1,111 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductDirectDiscountApplication;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductFinalPrice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class ProductDiscountBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    public ProductDiscountBatchRepository(JdbcTemplate jdbcTemplate, EntityCacheEvictor entityCacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityCacheEvictor = entityCacheEvictor;
+    }
+
+    public int[] updateFinalPrices(List<ProductFinalPrice> prices, ActiveDiscountEnum activeDiscountType,
+                                   Collection<ActiveDiscountEnum> replaceableTypes, Instant updatedAt) {
+        String sql = "UPDATE products SET final_price = ?, active_discount_type = ?, updated_at = ?, version = version + 1 " +
+                "WHERE id = ? AND deleted_at IS NULL AND active_discount_type IN (" + placeholders(replaceableTypes.size()) + ")";
+        List<String> replaceable = replaceableTypes.stream().map(Enum::name).toList();
+        entityCacheEvictor.evictProducts(prices.stream().map(ProductFinalPrice::productId).toList());
+
+        int[][] counts = jdbcTemplate.batchUpdate(sql, prices, BATCH_SIZE, (ps, price) -> {
+            ps.setBigDecimal(1, price.finalPrice());
+            ps.setString(2, activeDiscountType.name());
+            ps.setTimestamp(3, Timestamp.from(updatedAt));
+            ps.setLong(4, price.productId());
+            for (int i = 0; i < replaceable.size(); i++) {
+                ps.setString(5 + i, replaceable.get(i));
+            }
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    public int removeActiveDirectDiscounts(List<Long> productIds, Instant removedAt) {
+        entityCacheEvictor.evictEntities(ProductDirectDiscountApplication.class);
+        int removed = 0;
+        for (int from = 0; from < productIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + BATCH_SIZE, productIds.size()));
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = Timestamp.from(removedAt);
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+            jdbcTemplate.update(
+                    "UPDATE products SET active_direct_discount_application_id = NULL " +
+                            "WHERE id IN (" + placeholders(chunk.size()) + ")",
+                    Arrays.copyOfRange(args, 1, args.length));
+            removed += jdbcTemplate.update(
+                    "UPDATE product_direct_discount_applications SET removed_at = ? " +
+                            "WHERE removed_at IS NULL AND product_id IN (" + placeholders(chunk.size()) + ")",
+                    args);
+        }
+        return removed;
+    }
+
+    public void insertDirectDiscounts(List<Long> productIds, BigDecimal percentage, Instant appliedAt) {
+        entityCacheEvictor.evictEntities(ProductDirectDiscountApplication.class);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_direct_discount_applications (product_id, discount_percentage, applied_at) VALUES (?, ?, ?)",
+                productIds, BATCH_SIZE, (ps, productId) -> {
+                    ps.setLong(1, productId);
+                    ps.setBigDecimal(2, percentage);
+                    ps.setTimestamp(3, Timestamp.from(appliedAt));
+                });
+        linkActiveApplications(productIds, "active_direct_discount_application_id", "product_direct_discount_applications");
+    }
+
+    public void insertCouponApplications(List<Long> productIds, Long couponId, Instant appliedAt) {
+        entityCacheEvictor.evictEntities(ProductCouponApplication.class);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_coupon_applications (product_id, coupon_id, applied_at) VALUES (?, ?, ?)",
+                productIds, BATCH_SIZE, (ps, productId) -> {
+                    ps.setLong(1, productId);
+                    ps.setLong(2, couponId);
+                    ps.setTimestamp(3, Timestamp.from(appliedAt));
+                });
+        linkActiveApplications(productIds, "active_coupon_application_id", "product_coupon_applications");
+    }
+
+    private void linkActiveApplications(List<Long> productIds, String pointerColumn, String applicationTable) {
+        entityCacheEvictor.evictProducts(productIds);
+        for (int from = 0; from < productIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + BATCH_SIZE, productIds.size()));
+            jdbcTemplate.update(
+                    "UPDATE products p SET " + pointerColumn + " = (SELECT a.id FROM " + applicationTable + " a " +
+                            "WHERE a.active_product_id = p.id) WHERE p.id IN (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
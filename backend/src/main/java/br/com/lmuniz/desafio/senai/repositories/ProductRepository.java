@@ -3,9 +3,23 @@ package br.com.lmuniz.desafio.senai.repositories;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>, ProductRepositoryCustom {
     boolean existsByNormalizedName(String normalizedName);
+
+    @Query("SELECT p.normalizedName FROM Product p WHERE p.normalizedName IN :names")
+    List<String> findExistingNormalizedNames(@Param("names") Collection<String> names);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.finalPrice = p.price, p.activeDiscountType = br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum.NONE, p.activeCouponApplication = NULL, p.version = p.version + 1 WHERE p.id IN " +
+            "(SELECT pca.product.id FROM ProductCouponApplication pca WHERE pca.coupon.id = :couponId AND pca.removedAt IS NULL)")
+    int resetFinalPriceForActiveCoupon(@Param("couponId") Long couponId);
 }
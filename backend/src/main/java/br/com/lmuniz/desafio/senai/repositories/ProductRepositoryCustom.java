@@ -0,0 +1,25 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductPricingProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ProductRepositoryCustom {
+
+    Page<ProductListingProjection> findListing(Specification<Product> spec, Pageable pageable);
+
+    List<ProductListingProjection> findListing(Specification<Product> spec, Sort sort, int limit);
+
+    Stream<ProductListingProjection> streamListing(Specification<Product> spec, Sort sort, int fetchSize);
+
+    List<ProductPricingProjection> findPricing(Specification<Product> spec);
+
+    List<ProductPricingProjection> findPricing(Specification<Product> spec, int limit);
+}
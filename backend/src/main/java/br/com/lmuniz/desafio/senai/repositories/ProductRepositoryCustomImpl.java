@@ -0,0 +1,153 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductDirectDiscountApplication;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductPricingProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public ProductRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<ProductListingProjection> findListing(Specification<Product> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = createListingQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<ProductListingProjection> content = toProjections(query.getResultList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ProductListingProjection> findListing(Specification<Product> spec, Sort sort, int limit) {
+        TypedQuery<Tuple> query = createListingQuery(spec, sort);
+        query.setMaxResults(limit);
+        return toProjections(query.getResultList());
+    }
+
+    @Override
+    public Stream<ProductListingProjection> streamListing(Specification<Product> spec, Sort sort, int fetchSize) {
+        TypedQuery<Tuple> query = createListingQuery(spec, sort);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream()
+                .map(this::toProjection)
+                .peek(row -> entityManager.detach(row.product()));
+    }
+
+    @Override
+    public List<ProductPricingProjection> findPricing(Specification<Product> spec) {
+        return createPricingQuery(spec).getResultList();
+    }
+
+    @Override
+    public List<ProductPricingProjection> findPricing(Specification<Product> spec, int limit) {
+        return createPricingQuery(spec).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<ProductPricingProjection> createPricingQuery(Specification<Product> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductPricingProjection> query = criteriaBuilder.createQuery(ProductPricingProjection.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(criteriaBuilder.construct(
+                ProductPricingProjection.class,
+                root.get("id"),
+                root.get("price"),
+                root.get("deletedAt"),
+                root.get("activeDiscountType")));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<Tuple> createListingQuery(Specification<Product> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+
+        Join<Product, ProductCouponApplication> couponApplication = root.join("activeCouponApplication", JoinType.LEFT);
+        Join<ProductCouponApplication, Coupon> coupon = couponApplication.join("coupon", JoinType.LEFT);
+        Join<Product, ProductDirectDiscountApplication> directApplication = root.join("activeDirectDiscountApplication", JoinType.LEFT);
+
+        query.multiselect(
+                root.alias("product"),
+                coupon.get("type").alias("couponType"),
+                coupon.get("value").alias("couponValue"),
+                couponApplication.get("appliedAt").alias("couponAppliedAt"),
+                directApplication.get("discountPercentage").alias("directDiscountPercentage"),
+                directApplication.get("appliedAt").alias("directDiscountAppliedAt")
+        );
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(criteriaBuilder.count(root));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<ProductListingProjection> toProjections(List<Tuple> tuples) {
+        return tuples.stream()
+                .map(this::toProjection)
+                .toList();
+    }
+
+    private ProductListingProjection toProjection(Tuple tuple) {
+        return new ProductListingProjection(
+                tuple.get("product", Product.class),
+                tuple.get("couponType", CouponEnum.class),
+                tuple.get("couponValue", BigDecimal.class),
+                tuple.get("couponAppliedAt", Instant.class),
+                tuple.get("directDiscountPercentage", BigDecimal.class),
+                tuple.get("directDiscountAppliedAt", Instant.class));
+    }
+}
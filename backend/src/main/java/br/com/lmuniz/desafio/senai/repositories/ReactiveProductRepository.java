@@ -0,0 +1,167 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class ReactiveProductRepository {
+
+    private static final String LISTING_SELECT = """
+            SELECT p.id, p.name, p.normalized_name, p.description, p.price, p.final_price, p.active_discount_type, p.stock,
+                   p.created_at, p.updated_at, p.deleted_at,
+                   c.type AS coupon_type, c.coupon_value, ca.applied_at AS coupon_applied_at,
+                   da.discount_percentage AS direct_discount_percentage, da.applied_at AS direct_discount_applied_at
+            FROM products p
+            LEFT JOIN product_coupon_applications ca ON ca.id = p.active_coupon_application_id
+            LEFT JOIN coupons c ON c.id = ca.coupon_id
+            LEFT JOIN product_direct_discount_applications da ON da.id = p.active_direct_discount_application_id
+            """;
+
+    private static final String HAS_ACTIVE_COUPON = "p.active_coupon_application_id IS NOT NULL";
+    private static final String HAS_ACTIVE_DIRECT_DISCOUNT = "p.active_direct_discount_application_id IS NOT NULL";
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "p.id",
+            "name", "p.name",
+            "description", "p.description",
+            "price", "p.price",
+            "finalPrice", "p.final_price",
+            "stock", "p.stock",
+            "createdAt", "p.created_at",
+            "updatedAt", "p.updated_at",
+            "deletedAt", "p.deleted_at");
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveProductRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    public Flux<ProductListingProjection> findListing(ProductFilterDTO filter, Pageable pageable) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        List<String> conditions = new ArrayList<>();
+        List<String> tokens = filter.search() == null ? List.of() : Utils.tokenize(filter.search());
+
+        if (filter.includeDeleted() == null || !filter.includeDeleted()) {
+            conditions.add("p.deleted_at IS NULL");
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            conditions.add("p.id IN (SELECT t.product_id FROM product_search_terms t WHERE t.term LIKE :term" + i + ")");
+            bindings.put("term" + i, tokens.get(i) + "%");
+        }
+        if (filter.minPrice() != null) {
+            conditions.add("p.final_price >= :minPrice");
+            bindings.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("p.final_price <= :maxPrice");
+            bindings.put("maxPrice", filter.maxPrice());
+        }
+        if (filter.onlyOutOfStock() != null && filter.onlyOutOfStock()) {
+            conditions.add("p.stock = 0");
+        }
+        if (filter.hasDiscount() != null) {
+            String activeDiscount = "(" + HAS_ACTIVE_COUPON + " OR " + HAS_ACTIVE_DIRECT_DISCOUNT + ")";
+            conditions.add(filter.hasDiscount() ? activeDiscount : "NOT " + activeDiscount);
+        }
+        if (filter.withCouponApplied() != null && filter.withCouponApplied()) {
+            conditions.add(HAS_ACTIVE_COUPON);
+        }
+
+        StringBuilder sql = new StringBuilder(LISTING_SELECT);
+        if (!conditions.isEmpty()) {
+            sql.append("WHERE ").append(String.join(" AND ", conditions)).append('\n');
+        }
+        sql.append(orderBy(pageable.getSort(), tokens));
+        if (pageable.isPaged()) {
+            sql.append("\nLIMIT :limit OFFSET :offset");
+            bindings.put("limit", pageable.getPageSize());
+            bindings.put("offset", pageable.getOffset());
+        }
+
+        DatabaseClient.GenericExecuteSpec query = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            query = query.bind(binding.getKey(), binding.getValue());
+        }
+        return query.map(ReactiveProductRepository::toProjection).all();
+    }
+
+    public Mono<ProductListingProjection> findListingById(Long id) {
+        return databaseClient.sql(LISTING_SELECT + "WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toProjection)
+                .first();
+    }
+
+    private static String orderBy(Sort sort, List<String> tokens) {
+        if (sort.isSorted()) {
+            List<String> orders = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                String column = SORTABLE_COLUMNS.get(order.getProperty());
+                if (column == null) {
+                    throw new BusinessRuleException("Invalid sort property '" + order.getProperty() + "'.");
+                }
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+            return "ORDER BY " + String.join(", ", orders);
+        }
+        if (!tokens.isEmpty()) {
+            List<String> matches = new ArrayList<>();
+            for (int i = 0; i < tokens.size(); i++) {
+                matches.add("r.term LIKE :term" + i);
+            }
+            return "ORDER BY (SELECT SUM(r.weight) FROM product_search_terms r WHERE r.product_id = p.id AND ("
+                    + String.join(" OR ", matches) + ")) DESC, p.id ASC";
+        }
+        return "ORDER BY p.id ASC";
+    }
+
+    private static ProductListingProjection toProjection(Readable row) {
+        Product product = new Product();
+        product.setId(row.get("id", Long.class));
+        product.setName(row.get("name", String.class));
+        product.setNormalizedName(row.get("normalized_name", String.class));
+        product.setDescription(row.get("description", String.class));
+        product.setPrice(row.get("price", BigDecimal.class));
+        product.setFinalPrice(row.get("final_price", BigDecimal.class));
+        product.setActiveDiscountType(ActiveDiscountEnum.valueOf(row.get("active_discount_type", String.class)));
+        product.setStock(row.get("stock", Integer.class));
+        product.setCreatedAt(toInstant(row.get("created_at", LocalDateTime.class)));
+        product.setUpdatedAt(toInstant(row.get("updated_at", LocalDateTime.class)));
+        product.setDeletedAt(toInstant(row.get("deleted_at", LocalDateTime.class)));
+
+        String couponType = row.get("coupon_type", String.class);
+        return new ProductListingProjection(
+                product,
+                couponType == null ? null : CouponEnum.valueOf(couponType),
+                row.get("coupon_value", BigDecimal.class),
+                toInstant(row.get("coupon_applied_at", LocalDateTime.class)),
+                row.get("direct_discount_percentage", BigDecimal.class),
+                toInstant(row.get("direct_discount_applied_at", LocalDateTime.class)));
+    }
+
+    private static Instant toInstant(LocalDateTime value) {
+        return value == null ? null : value.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
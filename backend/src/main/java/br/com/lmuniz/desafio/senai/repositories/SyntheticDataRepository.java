@@ -0,0 +1,158 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class SyntheticDataRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDataRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean hasCatalogData() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM products) + (SELECT COUNT(*) FROM coupons)", Long.class);
+        return count != null && count > 0;
+    }
+
+    public void insertCoupons(List<CouponRow> coupons) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO coupons (id, code, type, coupon_value, one_shot, max_uses, uses_count, valid_from, valid_until, created_at, deleted_at) " +
+                        "VALUES (?, ?, ?, ?, ?, NULL, 0, ?, ?, ?, ?)",
+                coupons, coupons.size(), (ps, coupon) -> {
+                    ps.setLong(1, coupon.id());
+                    ps.setString(2, coupon.code());
+                    ps.setString(3, coupon.type().name());
+                    ps.setBigDecimal(4, coupon.value());
+                    ps.setBoolean(5, coupon.oneShot());
+                    ps.setTimestamp(6, Timestamp.from(coupon.validFrom()));
+                    ps.setTimestamp(7, Timestamp.from(coupon.validUntil()));
+                    ps.setTimestamp(8, Timestamp.from(coupon.createdAt()));
+                    setTimestamp(ps, 9, coupon.deletedAt());
+                });
+    }
+
+    public void updateCouponUsage(List<CouponUsageRow> usages) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE coupons SET uses_count = ?, max_uses = ? WHERE id = ?",
+                usages, usages.size(), (ps, usage) -> {
+                    ps.setInt(1, usage.usesCount());
+                    if (usage.maxUses() == null) {
+                        ps.setNull(2, Types.INTEGER);
+                    } else {
+                        ps.setInt(2, usage.maxUses());
+                    }
+                    ps.setLong(3, usage.couponId());
+                });
+    }
+
+    public void insertProducts(List<ProductRow> products) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (id, name, normalized_name, description, price, final_price, active_discount_type, stock, created_at, updated_at, deleted_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                products, products.size(), (ps, product) -> {
+                    ps.setLong(1, product.id());
+                    ps.setString(2, product.name());
+                    ps.setString(3, product.normalizedName());
+                    ps.setString(4, product.description());
+                    ps.setBigDecimal(5, product.price());
+                    ps.setBigDecimal(6, product.finalPrice());
+                    ps.setString(7, product.activeDiscountType().name());
+                    ps.setInt(8, product.stock());
+                    ps.setTimestamp(9, Timestamp.from(product.createdAt()));
+                    setTimestamp(ps, 10, product.updatedAt());
+                    setTimestamp(ps, 11, product.deletedAt());
+                });
+    }
+
+    public void insertSearchTerms(List<SearchTermRow> searchTerms) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_search_terms (id, product_id, term, weight) VALUES (?, ?, ?, ?)",
+                searchTerms, searchTerms.size(), (ps, searchTerm) -> {
+                    ps.setLong(1, searchTerm.id());
+                    ps.setLong(2, searchTerm.productId());
+                    ps.setString(3, searchTerm.term());
+                    ps.setInt(4, searchTerm.weight());
+                });
+    }
+
+    public void insertCouponApplications(List<CouponApplicationRow> applications) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_coupon_applications (product_id, coupon_id, applied_at, removed_at) VALUES (?, ?, ?, ?)",
+                applications, applications.size(), (ps, application) -> {
+                    ps.setLong(1, application.productId());
+                    ps.setLong(2, application.couponId());
+                    ps.setTimestamp(3, Timestamp.from(application.appliedAt()));
+                    setTimestamp(ps, 4, application.removedAt());
+                });
+    }
+
+    public void insertDirectDiscountApplications(List<DirectDiscountApplicationRow> applications) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_direct_discount_applications (product_id, discount_percentage, applied_at, removed_at) VALUES (?, ?, ?, ?)",
+                applications, applications.size(), (ps, application) -> {
+                    ps.setLong(1, application.productId());
+                    ps.setBigDecimal(2, application.discountPercentage());
+                    ps.setTimestamp(3, Timestamp.from(application.appliedAt()));
+                    setTimestamp(ps, 4, application.removedAt());
+                });
+    }
+
+    public void linkActiveDiscounts(long firstProductId, long lastProductId) {
+        jdbcTemplate.update(
+                "UPDATE products p SET " +
+                        "active_coupon_application_id = (SELECT a.id FROM product_coupon_applications a WHERE a.active_product_id = p.id), " +
+                        "active_direct_discount_application_id = (SELECT a.id FROM product_direct_discount_applications a WHERE a.active_product_id = p.id) " +
+                        "WHERE p.id BETWEEN ? AND ? AND p.active_discount_type <> 'NONE'",
+                firstProductId, lastProductId);
+    }
+
+    public void restartIdentifiers(long nextProductId, long nextSearchTermId, long nextCouponId) {
+        jdbcTemplate.execute("ALTER SEQUENCE products_seq RESTART WITH " + nextProductId);
+        jdbcTemplate.execute("ALTER SEQUENCE product_search_terms_seq RESTART WITH " + nextSearchTermId);
+        jdbcTemplate.execute("ALTER TABLE coupons ALTER COLUMN id RESTART WITH " + nextCouponId);
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, Instant value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.from(value));
+        }
+    }
+
+    public record ProductRow(long id, String name, String normalizedName, String description, BigDecimal price,
+                             BigDecimal finalPrice, ActiveDiscountEnum activeDiscountType, int stock,
+                             Instant createdAt, Instant updatedAt, Instant deletedAt) {
+    }
+
+    public record SearchTermRow(long id, long productId, String term, int weight) {
+    }
+
+    public record CouponRow(long id, String code, CouponEnum type, BigDecimal value, boolean oneShot,
+                            Instant validFrom, Instant validUntil, Instant createdAt, Instant deletedAt) {
+    }
+
+    public record CouponUsageRow(long couponId, int usesCount, Integer maxUses) {
+    }
+
+    public record CouponApplicationRow(long productId, long couponId, Instant appliedAt, Instant removedAt) {
+    }
+
+    public record DirectDiscountApplicationRow(long productId, BigDecimal discountPercentage, Instant appliedAt,
+                                               Instant removedAt) {
+    }
+}
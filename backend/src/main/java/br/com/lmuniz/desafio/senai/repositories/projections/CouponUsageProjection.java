@@ -0,0 +1,13 @@
+package br.com.lmuniz.desafio.senai.repositories.projections;
+
+import java.time.Instant;
+
+public record CouponUsageProjection(
+        Integer usesCount,
+        Boolean oneShot,
+        Integer maxUses,
+        Instant validFrom,
+        Instant validUntil,
+        Instant deletedAt
+) {
+}
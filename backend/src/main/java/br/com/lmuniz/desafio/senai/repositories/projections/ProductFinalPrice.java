@@ -0,0 +1,9 @@
+package br.com.lmuniz.desafio.senai.repositories.projections;
+
+import java.math.BigDecimal;
+
+public record ProductFinalPrice(
+        Long productId,
+        BigDecimal finalPrice
+) {
+}
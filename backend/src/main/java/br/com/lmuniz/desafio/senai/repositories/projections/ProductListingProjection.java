@@ -0,0 +1,24 @@
+package br.com.lmuniz.desafio.senai.repositories.projections;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ProductListingProjection(
+        Product product,
+        CouponEnum couponType,
+        BigDecimal couponValue,
+        Instant couponAppliedAt,
+        BigDecimal directDiscountPercentage,
+        Instant directDiscountAppliedAt
+) {
+    public boolean hasCouponApplied() {
+        return couponType != null;
+    }
+
+    public boolean hasDirectDiscount() {
+        return directDiscountPercentage != null;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.lmuniz.desafio.senai.repositories.projections;
+
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ProductPricingProjection(
+        Long id,
+        BigDecimal price,
+        Instant deletedAt,
+        ActiveDiscountEnum activeDiscountType
+) {
+}
@@ -1,30 +1,88 @@
 package br.com.lmuniz.desafio.senai.repositories.specifications;
 
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductCursor;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductSearchTerm;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class ProductSpecification {
 
-    public static Specification<Product> nameOrDescriptionLike(String search) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.or(
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + search.toLowerCase() + "%"),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("normalizedName")), "%" + search.toLowerCase() + "%"),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + search.toLowerCase() + "%")
-                );
+    public static Specification<Product> fromFilter(ProductFilterDTO filter) {
+        List<Specification<Product>> specs = new ArrayList<>();
+
+        if (filter.includeDeleted() == null || !filter.includeDeleted()) {
+            specs.add(isActive());
+        }
+
+        if (filter.search() != null && !filter.search().trim().isEmpty()) {
+            specs.add(matchesSearch(filter.search()));
+        }
+        if (filter.minPrice() != null) {
+            specs.add(finalPriceGreaterThanOrEqual(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            specs.add(finalPriceLessThanOrEqual(filter.maxPrice()));
+        }
+        if (filter.onlyOutOfStock() != null && filter.onlyOutOfStock()) {
+            specs.add(isOutOfStock());
+        }
+        if (filter.hasDiscount() != null) {
+            specs.add(filter.hasDiscount() ? hasActiveDiscount() : hasNoActiveDiscount());
+        }
+        if (filter.withCouponApplied() != null && filter.withCouponApplied()) {
+            specs.add(hasCouponApplied());
+        }
+
+        return specs.stream()
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    public static Specification<Product> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
     }
 
-    public static Specification<Product> priceGreaterThanOrEqual(BigDecimal minPrice) {
+    public static Specification<Product> matchesSearch(String search) {
+        List<String> tokens = Utils.tokenize(search);
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            for (String token : tokens) {
+                Subquery<Long> subquery = query.subquery(Long.class);
+                Root<ProductSearchTerm> term = subquery.from(ProductSearchTerm.class);
+                subquery.select(term.get("product").get("id"))
+                        .where(criteriaBuilder.like(term.get("term"), token + "%"));
+                predicates.add(root.get("id").in(subquery));
+            }
+
+            if (query.getResultType() != Long.class && !tokens.isEmpty()) {
+                query.orderBy(criteriaBuilder.desc(searchRank(tokens, root, query, criteriaBuilder)), criteriaBuilder.asc(root.get("id")));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Product> finalPriceGreaterThanOrEqual(BigDecimal minPrice) {
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.greaterThanOrEqualTo(root.get("price"), minPrice);
+                criteriaBuilder.greaterThanOrEqualTo(root.get("finalPrice"), minPrice);
     }
 
-    public static Specification<Product> priceLessThanOrEqual(BigDecimal maxPrice) {
+    public static Specification<Product> finalPriceLessThanOrEqual(BigDecimal maxPrice) {
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.lessThanOrEqualTo(root.get("price"), maxPrice);
+                criteriaBuilder.lessThanOrEqualTo(root.get("finalPrice"), maxPrice);
     }
 
     public static Specification<Product> isOutOfStock() {
@@ -38,16 +96,46 @@ public class ProductSpecification {
     }
 
     public static Specification<Product> hasActiveDiscount() {
-        return (root, query, criteriaBuilder) -> {
-            return criteriaBuilder.or(
-                    criteriaBuilder.exists((Subquery<?>) root.join("productCouponApplications").get("removedAt").isNull()),
-                    criteriaBuilder.exists((Subquery<?>) root.join("productDirectDiscountApplication").get("removedAt").isNull())
-            );
-        };
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.or(
+                        criteriaBuilder.isNotNull(root.get("activeCouponApplication")),
+                        criteriaBuilder.isNotNull(root.get("activeDirectDiscountApplication"))
+                );
+    }
+
+    public static Specification<Product> hasNoActiveDiscount() {
+        return Specification.not(hasActiveDiscount());
     }
 
     public static Specification<Product> hasCouponApplied() {
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.exists((Subquery<?>) root.join("productCouponApplications").get("removedAt").isNull());
+                criteriaBuilder.isNotNull(root.get("activeCouponApplication"));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Specification<Product> after(ProductCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            boolean ascending = cursor.direction() == Sort.Direction.ASC;
+            Expression<Long> id = root.get("id");
+            Predicate idBeyond = ascending ? criteriaBuilder.greaterThan(id, cursor.id()) : criteriaBuilder.lessThan(id, cursor.id());
+            if ("id".equals(cursor.property())) {
+                return idBeyond;
+            }
+
+            Expression<Comparable> key = root.get(cursor.property());
+            Comparable value = cursor.typedValue();
+            Predicate keyBeyond = ascending ? criteriaBuilder.greaterThan(key, value) : criteriaBuilder.lessThan(key, value);
+            return criteriaBuilder.or(keyBeyond, criteriaBuilder.and(criteriaBuilder.equal(key, value), idBeyond));
+        };
+    }
+
+    private static Subquery<Integer> searchRank(List<String> tokens, Root<Product> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<ProductSearchTerm> term = subquery.from(ProductSearchTerm.class);
+        Predicate[] matches = tokens.stream()
+                .map(token -> criteriaBuilder.like(term.get("term"), token + "%"))
+                .toArray(Predicate[]::new);
+        return subquery.select(criteriaBuilder.sum(term.get("weight")))
+                .where(criteriaBuilder.equal(term.get("product"), root), criteriaBuilder.or(matches));
     }
 }
@@ -12,7 +12,10 @@ public class PriceDeserializer extends JsonDeserializer<BigDecimal> {
 
     @Override
     public BigDecimal deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.getCodec().readTree(jp);
+        return fromNode(jp.getCodec().readTree(jp));
+    }
+
+    public static BigDecimal fromNode(JsonNode node) throws IOException {
         String priceString = node.asText();
 
         if (node.isNumber()) {
@@ -20,18 +23,24 @@ public class PriceDeserializer extends JsonDeserializer<BigDecimal> {
         }
         if (node.isTextual()){
             if (priceString.contains(",")) {
-                priceString = priceString.replaceAll("\\.", "");
-                priceString = priceString.replaceAll(",", ".");
                 try {
-                    return new BigDecimal(priceString);
+                    return parse(priceString);
                 } catch (NumberFormatException e) {
                     throw new IOException("Invalid price format: " + node.asText(), e);
                 }
             } else {
-                return new BigDecimal(priceString);
+                return parse(priceString);
             }
         }
 
         throw new IOException("Price must be a number or a formatted string.");
     }
+
+    public static BigDecimal parse(String priceString) {
+        if (priceString.contains(",")) {
+            priceString = priceString.replaceAll("\\.", "");
+            priceString = priceString.replaceAll(",", ".");
+        }
+        return new BigDecimal(priceString);
+    }
 }
@@ -1,17 +1,25 @@
 package br.com.lmuniz.desafio.senai.services;
 
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDetailsDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
 import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
 import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductCouponApplicationRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
 import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
 import br.com.lmuniz.desafio.senai.services.exceptions.DatabaseException;
 import br.com.lmuniz.desafio.senai.services.exceptions.ResourceConflictException;
 import br.com.lmuniz.desafio.senai.services.exceptions.ResourceNotFoundException;
+import br.com.lmuniz.desafio.senai.services.patches.JsonPatchApplier;
+import br.com.lmuniz.desafio.senai.services.patches.PatchAppliers;
+import br.com.lmuniz.desafio.senai.utils.ETags;
 import br.com.lmuniz.desafio.senai.utils.Utils;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
@@ -19,6 +27,7 @@ import com.github.fge.jsonpatch.JsonPatchException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
@@ -27,18 +36,29 @@ import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class CouponService {
 
     private final CouponRepository couponRepository;
     private final ProductCouponApplicationRepository productCouponApplicationRepository;
+    private final ProductRepository productRepository;
     private final ObjectMapper objectMapper;
+    private final CouponCache couponCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final DiscountMetrics discountMetrics;
+    private final JsonPatchApplier<Coupon> couponPatchApplier;
 
-    public CouponService (CouponRepository couponRepository, ProductCouponApplicationRepository productCouponApplicationRepository, ObjectMapper objectMapper) {
+    public CouponService (CouponRepository couponRepository, ProductCouponApplicationRepository productCouponApplicationRepository, ProductRepository productRepository, ObjectMapper objectMapper, CouponCache couponCache, EntityCacheEvictor entityCacheEvictor, DiscountMetrics discountMetrics) {
         this.couponRepository = couponRepository;
         this.productCouponApplicationRepository = productCouponApplicationRepository;
+        this.productRepository = productRepository;
         this.objectMapper = objectMapper;
+        this.couponCache = couponCache;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.discountMetrics = discountMetrics;
+        this.couponPatchApplier = PatchAppliers.coupon(objectMapper);
     }
 
     @Transactional
@@ -67,6 +87,7 @@ public class CouponService {
             throw new BusinessRuleException(errors);
         }
         entity = couponRepository.save(entity);
+        couponCache.evictAfterCompletion(normalizedCode);
         return new CouponDTO(entity);
     }
 
@@ -89,27 +110,43 @@ public class CouponService {
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon with ID " + id + " not found"));
     }
 
+    @Transactional(readOnly = true)
+    public String getCouponETag(Long id) {
+        return couponRepository.findById(id)
+                .map(CouponService::eTag)
+                .orElseThrow(() -> new ResourceNotFoundException("Coupon with ID " + id + " not found"));
+    }
+
+    private static String eTag(Coupon coupon) {
+        return ETags.of(coupon.getVersion(), coupon.getUsesCount());
+    }
+
     @Transactional
-    public void deleteCoupon(Long id){
+    public void deleteCoupon(Long id, String ifMatch){
         Coupon entity = couponRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon with ID " + id + " not found"));
+        ETags.checkIfMatch(ifMatch, eTag(entity), "Coupon with ID " + id);
         entity.setDeletedAt(Instant.now());
         couponRepository.save(entity);
+        couponCache.evictAfterCompletion(entity.getCode());
     }
 
     @Transactional
-    public CouponDetailsDTO partialUpdateCoupon(Long id, JsonPatch patch) {
+    public CouponDetailsDTO partialUpdateCoupon(Long id, JsonNode patch, String ifMatch) {
         Coupon entity = couponRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon with ID " + id + " not found."));
+        ETags.checkIfMatch(ifMatch, eTag(entity), "Coupon with ID " + id);
 
         BigDecimal previousValue = entity.getValue();
         CouponEnum previousType = entity.getType();
 
         Coupon entityToValidate;
         try {
-            JsonNode patchedNode = patch.apply(objectMapper.valueToTree(entity));
-            entityToValidate = objectMapper.treeToValue(patchedNode, Coupon.class);
-        } catch (JsonProcessingException | JsonPatchException e) {
+            Optional<Coupon> compiledCoupon = couponPatchApplier.apply(patch, PatchAppliers.copyOf(entity));
+            entityToValidate = compiledCoupon.isPresent()
+                    ? compiledCoupon.get()
+                    : objectMapper.treeToValue(JsonPatch.fromJson(patch).apply(objectMapper.valueToTree(entity)), Coupon.class);
+        } catch (IOException | JsonPatchException e) {
             throw new BusinessRuleException(e.getMessage());
         }
 
@@ -128,16 +165,21 @@ public class CouponService {
         entity.setValidUntil(entityToValidate.getValidUntil());
 
         if (previousValue.compareTo(entity.getValue()) != 0 || !previousType.equals(entity.getType())) {
+            productRepository.resetFinalPriceForActiveCoupon(id);
             int removedCount = productCouponApplicationRepository.removeActiveApplicationsByCouponId(id, Instant.now());
-            if (entity.getUsesCount() >= removedCount) {
-                entity.setUsesCount(entity.getUsesCount() - removedCount);
-            } else {
+            entityCacheEvictor.evictEntities(Product.class);
+            entityCacheEvictor.evictEntities(ProductCouponApplication.class);
+            if (entity.getUsesCount() < removedCount
+                    || (removedCount > 0 && couponRepository.decrementUsesCount(id, removedCount) == 0)) {
                 throw new DatabaseException("Cannot update coupon, would result in negative usage count.");
             }
+            entity.setUsesCount(entity.getUsesCount() - removedCount);
+            discountMetrics.couponDiscountsRemoved(removedCount);
         }
 
         entity.setUpdatedAt(Instant.now());
         Coupon couponResult = couponRepository.saveAndFlush(entity);
+        couponCache.evictAfterCompletion(couponResult.getCode());
 
         return new CouponDetailsDTO(couponResult);
     }
@@ -170,6 +212,8 @@ public class CouponService {
             if (couponRepository.findByCodeAndIdNot(entity.getCode(), id).isPresent()) {
                 throw new ResourceConflictException("Coupon with code '" + entity.getCode() + "' already exists");
             }
+        } else if (couponRepository.existsByCode(entity.getCode())) {
+            throw new ResourceConflictException("Coupon with code '" + entity.getCode() + "' already exists");
         }
 
         List<String> reservedCodes = List.of("admin", "auth", "null", "undefined");
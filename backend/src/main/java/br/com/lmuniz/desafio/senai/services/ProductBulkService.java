@@ -0,0 +1,265 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.BulkCouponApplicationDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponSnapshot;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDirectDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountItemDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountResultDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductCursor;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.BulkDiscountStatusEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponRejectionEnum;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
+import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductDiscountBatchRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.repositories.projections.CouponUsageProjection;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductFinalPrice;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductPricingProjection;
+import br.com.lmuniz.desafio.senai.repositories.specifications.ProductSpecification;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import br.com.lmuniz.desafio.senai.services.exceptions.ResourceNotFoundException;
+import br.com.lmuniz.desafio.senai.utils.PriceCalculator;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductBulkService {
+
+    private static final Set<ActiveDiscountEnum> DIRECT_REPLACEABLE_TYPES = EnumSet.of(ActiveDiscountEnum.NONE, ActiveDiscountEnum.DIRECT);
+    private static final Set<ActiveDiscountEnum> COUPON_REPLACEABLE_TYPES = EnumSet.of(ActiveDiscountEnum.NONE);
+
+    private final ProductRepository productRepository;
+    private final ProductDiscountBatchRepository productDiscountBatchRepository;
+    private final CouponRepository couponRepository;
+    private final CouponCache couponCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final DiscountMetrics discountMetrics;
+    private final int filterChunkSize;
+
+    public ProductBulkService(ProductRepository productRepository, ProductDiscountBatchRepository productDiscountBatchRepository, CouponRepository couponRepository, CouponCache couponCache, EntityCacheEvictor entityCacheEvictor, DiscountMetrics discountMetrics,
+                              @Value("${bulk-discount.filter-chunk-size}") int filterChunkSize) {
+        this.productRepository = productRepository;
+        this.productDiscountBatchRepository = productDiscountBatchRepository;
+        this.couponRepository = couponRepository;
+        this.couponCache = couponCache;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.discountMetrics = discountMetrics;
+        this.filterChunkSize = filterChunkSize;
+    }
+
+    @Transactional
+    public BulkDiscountResultDTO applyDirectPercentDiscount(BulkDirectDiscountDTO dto) {
+        boolean hasIds = dto.ids() != null && !dto.ids().isEmpty();
+        if (hasIds == (dto.filter() != null)) {
+            throw new BusinessRuleException("Provide either a list of product ids or a filter, but not both.");
+        }
+
+        Map<Long, BulkDiscountItemDTO> results = new LinkedHashMap<>();
+        long basisPoints = PriceCalculator.toBasisPoints(dto.percentage());
+        Instant now = Instant.now();
+
+        if (hasIds) {
+            List<Long> ids = dto.ids().stream().distinct().toList();
+            ids.forEach(id -> results.put(id, new BulkDiscountItemDTO(id, BulkDiscountStatusEnum.NOT_FOUND)));
+            applyDirectPercentDiscount(productRepository.findPricing(ProductSpecification.idIn(ids)), dto.percentage(), basisPoints, now, results);
+            return new BulkDiscountResultDTO(new ArrayList<>(results.values()));
+        }
+
+        Specification<Product> spec = ProductSpecification.fromFilter(dto.filter());
+        List<ProductPricingProjection> chunk;
+        Long lastId = null;
+        do {
+            Specification<Product> chunkSpec = lastId == null
+                    ? spec
+                    : spec.and(ProductSpecification.after(new ProductCursor("id", Sort.Direction.ASC, lastId.toString(), lastId)));
+            chunk = productRepository.findPricing(chunkSpec, filterChunkSize);
+            applyDirectPercentDiscount(chunk, dto.percentage(), basisPoints, now, results);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == filterChunkSize);
+
+        return new BulkDiscountResultDTO(new ArrayList<>(results.values()));
+    }
+
+    private void applyDirectPercentDiscount(List<ProductPricingProjection> targets, BigDecimal percentage, long basisPoints,
+                                            Instant now, Map<Long, BulkDiscountItemDTO> results) {
+        List<ProductFinalPrice> candidates = new ArrayList<>();
+        for (ProductPricingProjection target : targets) {
+            if (target.deletedAt() != null) {
+                results.put(target.id(), new BulkDiscountItemDTO(target.id(), BulkDiscountStatusEnum.DELETED));
+                continue;
+            }
+            if (target.activeDiscountType() == ActiveDiscountEnum.COUPON) {
+                results.put(target.id(), new BulkDiscountItemDTO(target.id(), BulkDiscountStatusEnum.COUPON_APPLIED));
+                continue;
+            }
+
+            long finalPriceCents = PriceCalculator.applyPercent(PriceCalculator.toCents(target.price()), basisPoints);
+            if (finalPriceCents < PriceCalculator.MIN_PRICE_CENTS) {
+                results.put(target.id(), new BulkDiscountItemDTO(target.id(), BulkDiscountStatusEnum.INVALID_PRICE));
+                continue;
+            }
+
+            BigDecimal finalPrice = PriceCalculator.fromCents(finalPriceCents);
+            BulkDiscountStatusEnum status = target.activeDiscountType() == ActiveDiscountEnum.DIRECT
+                    ? BulkDiscountStatusEnum.REPLACED
+                    : BulkDiscountStatusEnum.APPLIED;
+            results.put(target.id(), new BulkDiscountItemDTO(target.id(), status, finalPrice));
+            candidates.add(new ProductFinalPrice(target.id(), finalPrice));
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        int[] updated = productDiscountBatchRepository.updateFinalPrices(candidates, ActiveDiscountEnum.DIRECT, DIRECT_REPLACEABLE_TYPES, now);
+
+        List<Long> appliedIds = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Long productId = candidates.get(i).productId();
+            if (updated[i] > 0) {
+                appliedIds.add(productId);
+            } else {
+                results.put(productId, new BulkDiscountItemDTO(productId, BulkDiscountStatusEnum.CONCURRENT_UPDATE));
+            }
+        }
+
+        productDiscountBatchRepository.removeActiveDirectDiscounts(appliedIds, now);
+        productDiscountBatchRepository.insertDirectDiscounts(appliedIds, percentage, now);
+    }
+
+    @Transactional
+    public BulkDiscountResultDTO applyCouponDiscount(String code, BulkCouponApplicationDTO dto) {
+        final String normalizedCode = Utils.normalizeName(code);
+        CouponSnapshot coupon = couponCache.get(normalizedCode, key -> Optional.ofNullable(couponRepository.findByCode(key)).map(CouponSnapshot::new))
+                .orElseThrow(() -> couponNotFound(code));
+        ProductService.validateCouponSnapshot(coupon, discountMetrics);
+
+        List<Long> ids = dto.productIds().stream().distinct().toList();
+        Map<Long, ProductPricingProjection> targets = productRepository.findPricing(ProductSpecification.idIn(ids)).stream()
+                .collect(Collectors.toMap(ProductPricingProjection::id, Function.identity()));
+
+        Map<Long, BulkDiscountItemDTO> results = new LinkedHashMap<>();
+        List<ProductFinalPrice> candidates = new ArrayList<>();
+        long couponValue = PriceCalculator.toCents(coupon.value());
+        for (Long id : ids) {
+            ProductPricingProjection target = targets.get(id);
+            BulkDiscountStatusEnum skipStatus = couponSkipStatus(target);
+            if (skipStatus != null) {
+                results.put(id, new BulkDiscountItemDTO(id, skipStatus));
+                continue;
+            }
+
+            long finalPriceCents = PriceCalculator.applyCoupon(PriceCalculator.toCents(target.price()), coupon.type(), couponValue);
+            if (finalPriceCents < PriceCalculator.MIN_PRICE_CENTS) {
+                results.put(id, new BulkDiscountItemDTO(id, BulkDiscountStatusEnum.INVALID_PRICE));
+                continue;
+            }
+
+            BigDecimal finalPrice = PriceCalculator.fromCents(finalPriceCents);
+            results.put(id, new BulkDiscountItemDTO(id, BulkDiscountStatusEnum.APPLIED, finalPrice));
+            candidates.add(new ProductFinalPrice(id, finalPrice));
+        }
+
+        int reserved = reserveUses(coupon, code, candidates.size());
+        if (reserved > 0) {
+            entityCacheEvictor.evictEntity(Coupon.class, coupon.id());
+        }
+        candidates.subList(reserved, candidates.size()).forEach(candidate -> results.put(candidate.productId(),
+                new BulkDiscountItemDTO(candidate.productId(), BulkDiscountStatusEnum.USAGE_LIMIT_REACHED)));
+        List<ProductFinalPrice> reservedCandidates = candidates.subList(0, reserved);
+
+        Instant now = Instant.now();
+        int[] updated = productDiscountBatchRepository.updateFinalPrices(reservedCandidates, ActiveDiscountEnum.COUPON, COUPON_REPLACEABLE_TYPES, now);
+
+        List<Long> appliedIds = new ArrayList<>();
+        for (int i = 0; i < reservedCandidates.size(); i++) {
+            Long productId = reservedCandidates.get(i).productId();
+            if (updated[i] > 0) {
+                appliedIds.add(productId);
+            } else {
+                results.put(productId, new BulkDiscountItemDTO(productId, BulkDiscountStatusEnum.CONCURRENT_UPDATE));
+            }
+        }
+
+        int unused = reserved - appliedIds.size();
+        if (unused > 0) {
+            couponRepository.decrementUsesCount(coupon.id(), unused);
+        }
+        productDiscountBatchRepository.insertCouponApplications(appliedIds, coupon.id(), now);
+        discountMetrics.couponsRedeemedInBulk(appliedIds.size());
+
+        return new BulkDiscountResultDTO(new ArrayList<>(results.values()));
+    }
+
+    private BulkDiscountStatusEnum couponSkipStatus(ProductPricingProjection target) {
+        if (target == null) {
+            return BulkDiscountStatusEnum.NOT_FOUND;
+        }
+        if (target.deletedAt() != null) {
+            return BulkDiscountStatusEnum.DELETED;
+        }
+        if (target.activeDiscountType() == ActiveDiscountEnum.COUPON) {
+            return BulkDiscountStatusEnum.COUPON_APPLIED;
+        }
+        if (target.activeDiscountType() == ActiveDiscountEnum.DIRECT) {
+            return BulkDiscountStatusEnum.DIRECT_APPLIED;
+        }
+        return null;
+    }
+
+    private int reserveUses(CouponSnapshot coupon, String code, int requested) {
+        int amount = requested;
+        while (amount > 0) {
+            if (couponRepository.incrementUsesCount(coupon.id(), amount, Instant.now()) > 0) {
+                return amount;
+            }
+            CouponUsageProjection usage = couponRepository.findUsageById(coupon.id())
+                    .orElseThrow(() -> couponNotFound(code));
+            ProductService.validateCouponSnapshot(currentSnapshot(coupon, usage), discountMetrics);
+            amount = Math.min(amount - 1, remainingUses(usage));
+        }
+        return 0;
+    }
+
+    private CouponSnapshot currentSnapshot(CouponSnapshot coupon, CouponUsageProjection usage) {
+        return new CouponSnapshot(coupon.id(), coupon.code(), coupon.type(), coupon.value(), usage.oneShot(),
+                usage.maxUses(), usage.validFrom(), usage.validUntil(), usage.deletedAt());
+    }
+
+    private int remainingUses(CouponUsageProjection usage) {
+        if (usage.oneShot()) {
+            return Math.max(0, 1 - usage.usesCount());
+        }
+        if (usage.maxUses() == null) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(0, usage.maxUses() - usage.usesCount());
+    }
+
+    private ResourceNotFoundException couponNotFound(String code) {
+        discountMetrics.couponRejected(CouponRejectionEnum.NOT_FOUND);
+        return new ResourceNotFoundException("Coupon with code '" + code + "' not found.");
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ExportFormatEnum;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
+import br.com.lmuniz.desafio.senai.repositories.specifications.ProductSpecification;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ProductExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String CSV_HEADER = "id,name,description,price,finalPrice,stock,isOutOfStock,discountType,discountValue,discountAppliedAt,hasCouponApplied,createdAt,updatedAt";
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    public ProductExportService(ProductRepository productRepository, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public ExportFormatEnum resolveFormat(String format) {
+        for (ExportFormatEnum value : ExportFormatEnum.values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BusinessRuleException("Unsupported export format '" + format + "'. Use ndjson or csv.");
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(ExportFormatEnum format, Boolean includeDeleted, OutputStream outputStream) throws IOException {
+        Specification<Product> spec = includeDeleted != null && includeDeleted ? null : ProductSpecification.isActive();
+
+        try (Stream<ProductListingProjection> rows = productRepository.streamListing(spec, Sort.by("id"), FETCH_SIZE)) {
+            Iterator<ProductDiscountDTO> products = rows.map(ProductDiscountDTO::new).iterator();
+            if (format == ExportFormatEnum.CSV) {
+                writeCsv(products, outputStream);
+            } else {
+                writeNdjson(products, outputStream);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<ProductDiscountDTO> products, OutputStream outputStream) throws IOException {
+        boolean empty = !products.hasNext();
+        try (SequenceWriter writer = objectMapper.writerFor(ProductDiscountDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            while (products.hasNext()) {
+                writer.write(products.next());
+            }
+        }
+        if (!empty) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
+    private void writeCsv(Iterator<ProductDiscountDTO> products, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (products.hasNext()) {
+            ProductDiscountDTO product = products.next();
+            writeCsvRow(writer,
+                    product.id(),
+                    product.name(),
+                    product.description(),
+                    product.price(),
+                    product.finalPrice(),
+                    product.stock(),
+                    product.isOutOfStock(),
+                    product.discount() == null ? null : product.discount().type(),
+                    product.discount() == null ? null : product.discount().value(),
+                    product.discount() == null ? null : product.discount().appliedAt(),
+                    product.hasCouponApplied(),
+                    product.createdAt(),
+                    product.updatedAt());
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
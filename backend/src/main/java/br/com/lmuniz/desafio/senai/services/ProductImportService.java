@@ -0,0 +1,322 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.imports.ProductImportErrorDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.imports.ProductImportResultDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ExportFormatEnum;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.serializers.PriceDeserializer;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductImportService {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "price", "stock");
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ProductImportService(ProductRepository productRepository,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${product-import.chunk-size}") int chunkSize,
+                                @Value("${product-import.max-reported-errors}") int maxReportedErrors) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public ExportFormatEnum resolveFormat(String format) {
+        for (ExportFormatEnum value : ExportFormatEnum.values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BusinessRuleException("Unsupported import format '" + format + "'. Use ndjson or csv.");
+    }
+
+    public ProductImportResultDTO importProducts(ExportFormatEnum format, InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        ImportSession session = new ImportSession();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormatEnum.CSV) {
+            readCsv(reader, session);
+        } else {
+            readNdjson(reader, session);
+        }
+        flushChunk(session);
+
+        return new ProductImportResultDTO(session.processed, session.imported, System.nanoTime() - start, session.errors);
+    }
+
+    private void readNdjson(BufferedReader reader, ImportSession session) throws IOException {
+        ObjectReader productReader = objectMapper.readerFor(ProductDTO.class);
+        long line = 0;
+        String content;
+        while ((content = reader.readLine()) != null) {
+            line++;
+            if (content.isBlank()) {
+                continue;
+            }
+            ProductDTO product;
+            try {
+                product = productReader.readValue(content);
+            } catch (IOException e) {
+                String message = e instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : e.getMessage();
+                session.processed++;
+                session.reject(line, Map.of("record", "Malformed JSON: " + message));
+                continue;
+            }
+            accept(session, line, product, new LinkedHashMap<>());
+        }
+    }
+
+    private void readCsv(Reader reader, ImportSession session) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new BusinessRuleException("CSV header must contain the columns " + String.join(", ", REQUIRED_CSV_COLUMNS) + ".");
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            Map<String, String> errors = new LinkedHashMap<>();
+            String price = column(record, columns, "price");
+            String stock = column(record, columns, "stock");
+            ProductDTO product = new ProductDTO(
+                    null,
+                    column(record, columns, "name"),
+                    column(record, columns, "description"),
+                    parseStock(stock, errors),
+                    parsePrice(price, errors)
+            );
+            accept(session, csv.recordLine, product, errors);
+        }
+    }
+
+    private void accept(ImportSession session, long line, ProductDTO product, Map<String, String> errors) {
+        session.processed++;
+        for (ConstraintViolation<ProductDTO> violation : validator.validate(product)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (!errors.isEmpty()) {
+            session.reject(line, errors);
+            return;
+        }
+
+        String name = product.name().trim().replaceAll("\\s+", " ");
+        String normalizedName = Utils.normalizeName(name);
+        Long firstLine = session.seenNames.putIfAbsent(normalizedName, line);
+        if (firstLine != null) {
+            session.reject(line, Map.of("name", "Product with name '" + name + "' is repeated in this import (first seen on line " + firstLine + ")."));
+            return;
+        }
+
+        session.chunk.add(new ImportRow(line, name, normalizedName, product));
+        if (session.chunk.size() >= chunkSize) {
+            flushChunk(session);
+        }
+    }
+
+    private void flushChunk(ImportSession session) {
+        if (session.chunk.isEmpty()) {
+            return;
+        }
+        List<ImportRow> rows = new ArrayList<>(session.chunk);
+        session.chunk.clear();
+
+        try {
+            List<ImportRow> conflicts = transactionTemplate.execute(status -> persistChunk(rows));
+            conflicts.forEach(row -> session.reject(row.line(), Map.of("name", "Product with name '" + row.name() + "' already exists.")));
+            session.imported += rows.size() - conflicts.size();
+        } catch (DataIntegrityViolationException e) {
+            rows.forEach(row -> session.reject(row.line(), Map.of("record", "Chunk rolled back because a concurrent insert used one of its names.")));
+        }
+    }
+
+    private List<ImportRow> persistChunk(List<ImportRow> rows) {
+        Set<String> names = rows.stream().map(ImportRow::normalizedName).collect(Collectors.toSet());
+        Set<String> existingNames = Set.copyOf(productRepository.findExistingNormalizedNames(names));
+
+        List<ImportRow> conflicts = new ArrayList<>();
+        List<Product> products = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existingNames.contains(row.normalizedName())) {
+                conflicts.add(row);
+                continue;
+            }
+            Product product = new Product(
+                    row.name(),
+                    row.normalizedName(),
+                    row.product().description(),
+                    row.product().price().setScale(2, RoundingMode.HALF_UP),
+                    row.product().stock()
+            );
+            ProductService.indexSearchTerms(product);
+            products.add(product);
+        }
+
+        productRepository.saveAll(products);
+        productRepository.flush();
+        entityManager.clear();
+        return conflicts;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private static Integer parseStock(String stock, Map<String, String> errors) {
+        if (stock == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(stock.trim());
+        } catch (NumberFormatException e) {
+            errors.put("stock", "Stock must be an integer number");
+            return null;
+        }
+    }
+
+    private static BigDecimal parsePrice(String price, Map<String, String> errors) {
+        if (price == null) {
+            return null;
+        }
+        try {
+            return PriceDeserializer.parse(price.trim());
+        } catch (NumberFormatException e) {
+            errors.put("price", "Invalid price format: " + price);
+            return null;
+        }
+    }
+
+    private record ImportRow(long line, String name, String normalizedName, ProductDTO product) {
+    }
+
+    private final class ImportSession {
+        private final Map<String, Long> seenNames = new HashMap<>();
+        private final List<ImportRow> chunk = new ArrayList<>();
+        private final List<ProductImportErrorDTO> errors = new ArrayList<>();
+        private int processed;
+        private int imported;
+
+        private void reject(long line, Map<String, String> rowErrors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportErrorDTO(line, rowErrors));
+            }
+        }
+    }
+
+    private static final class CsvReader {
+        private final PushbackReader reader;
+        private long line = 1;
+        private long recordLine;
+
+        private CsvReader(Reader reader) {
+            this.reader = new PushbackReader(reader, 1);
+        }
+
+        private List<String> readRecord() throws IOException {
+            int current = reader.read();
+            if (current == -1) {
+                return null;
+            }
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (current != -1) {
+                char c = (char) current;
+                if (c == '\n') {
+                    line++;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.unread(next);
+                            }
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+                current = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -1,59 +1,87 @@
 package br.com.lmuniz.desafio.senai.services;
 
+import br.com.lmuniz.desafio.senai.caches.CatalogVersion;
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponSnapshot;
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DirectPercentageDiscountDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductCursor;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductSliceDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
 import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
 import br.com.lmuniz.desafio.senai.domains.entities.ProductDirectDiscountApplication;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductSearchTerm;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
 import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponRejectionEnum;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
 import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductCouponApplicationRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductDirectDiscountApplicationRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
 import br.com.lmuniz.desafio.senai.repositories.specifications.ProductSpecification;
 import br.com.lmuniz.desafio.senai.services.exceptions.*;
+import br.com.lmuniz.desafio.senai.services.patches.JsonPatchApplier;
+import br.com.lmuniz.desafio.senai.services.patches.PatchAppliers;
+import br.com.lmuniz.desafio.senai.utils.ETags;
+import br.com.lmuniz.desafio.senai.utils.PriceCalculator;
 import br.com.lmuniz.desafio.senai.utils.Utils;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 public class ProductService {
 
+    private static final int NAME_TERM_WEIGHT = 3;
+    private static final int DESCRIPTION_TERM_WEIGHT = 1;
+
     private final ProductRepository productRepository;
     private final CouponRepository couponRepository;
     private final ProductCouponApplicationRepository productCouponApplicationRepository;
     private final ProductDirectDiscountApplicationRepository productDirectDiscountApplicationRepository;
     private final ObjectMapper objectMapper;
+    private final CouponCache couponCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final CatalogVersion catalogVersion;
+    private final DiscountMetrics discountMetrics;
+    private final JsonPatchApplier<ProductDTO> productPatchApplier;
 
-    public ProductService(ProductRepository productRepository, CouponRepository couponRepository, ProductCouponApplicationRepository productCouponApplicationRepository, ProductDirectDiscountApplicationRepository productDirectDiscountApplicationRepository, ObjectMapper objectMapper) {
+    public ProductService(ProductRepository productRepository, CouponRepository couponRepository, ProductCouponApplicationRepository productCouponApplicationRepository, ProductDirectDiscountApplicationRepository productDirectDiscountApplicationRepository, ObjectMapper objectMapper, CouponCache couponCache, EntityCacheEvictor entityCacheEvictor, CatalogVersion catalogVersion, DiscountMetrics discountMetrics) {
         this.productRepository = productRepository;
         this.couponRepository = couponRepository;
         this.productCouponApplicationRepository = productCouponApplicationRepository;
         this.productDirectDiscountApplicationRepository = productDirectDiscountApplicationRepository;
         this.objectMapper = objectMapper;
+        this.couponCache = couponCache;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.catalogVersion = catalogVersion;
+        this.discountMetrics = discountMetrics;
+        this.productPatchApplier = PatchAppliers.product(objectMapper);
     }
 
     @Transactional
@@ -72,14 +100,16 @@ public class ProductService {
                 dto.price().setScale(2, RoundingMode.HALF_UP),
                 dto.stock()
         );
+        indexSearchTerms(entity);
         entity = productRepository.save(entity);
         return new ProductDTO(entity);
     }
 
     @Transactional
-    public void softDeleteProduct(Long id) {
+    public void softDeleteProduct(Long id, String ifMatch) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product with id '" + id + "' not found."));
+        ETags.checkIfMatch(ifMatch, eTag(product), "Product with id '" + id + "'");
 
         hasDiscountCheck(product);
 
@@ -89,9 +119,8 @@ public class ProductService {
     }
 
     private void hasDiscountCheck(Product product) {
-        if(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId()) != null ||
-                productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId()) != null) {
-            this.removeDiscount(product.getId());
+        if (product.getActiveCouponApplication() != null || product.getActiveDirectDiscountApplication() != null) {
+            removeActiveDiscount(product);
         }
     }
 
@@ -110,6 +139,17 @@ public class ProductService {
         return new ProductDTO(product);
     }
 
+    @Transactional(readOnly = true)
+    public String getProductETag(Long id) {
+        return productRepository.findById(id)
+                .map(ProductService::eTag)
+                .orElseThrow(() -> new ResourceNotFoundException("Product with id '" + id + "' not found."));
+    }
+
+    private static String eTag(Product product) {
+        return ETags.of(product.getVersion());
+    }
+
     @Transactional(readOnly = true)
     public ProductDTO getProductById(Long id) {
         return productRepository.findById(id)
@@ -120,32 +160,34 @@ public class ProductService {
     @Transactional
     public ProductDiscountDTO applyCouponDiscount(Long id, CouponCodeDTO couponCodeDTO) {
         final String normalizedCode = Utils.normalizeName(couponCodeDTO.code());
-        Coupon coupon = couponRepository.findByCode(normalizedCode);
-        if (coupon == null) {
-            throw new ResourceNotFoundException("Coupon with code '" + couponCodeDTO.code() + "' not found.");
-        }
-        validateCoupon(coupon);
+        CouponSnapshot snapshot = couponCache.get(normalizedCode, code -> Optional.ofNullable(couponRepository.findByCode(code)).map(CouponSnapshot::new))
+                .orElseThrow(() -> couponNotFound(couponCodeDTO.code()));
+        validateCouponSnapshot(snapshot, discountMetrics);
 
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product with id '" + id + "' not found."));
         validateProductAvailableDiscount(product);
 
-        BigDecimal finalPrice = calculateFinalPrice(product, coupon);
+        long finalPriceCents = calculateFinalPriceCents(product, snapshot);
 
-        if (finalPrice.compareTo(new BigDecimal("0.01")) < 0) {
+        if (finalPriceCents < PriceCalculator.MIN_PRICE_CENTS) {
             throw new InvalidPriceException("Final price after applying coupon cannot less than 0.01");
         }
+        BigDecimal finalPrice = PriceCalculator.fromCents(finalPriceCents);
 
         ProductCouponApplication productCouponApplication = new ProductCouponApplication();
         productCouponApplication.setProduct(product);
-        productCouponApplication.setCoupon(coupon);
+        productCouponApplication.setCoupon(couponRepository.getReferenceById(snapshot.id()));
         productCouponApplication.setAppliedAt(Instant.now());
         productCouponApplication = productCouponApplicationRepository.save(productCouponApplication);
 
-        coupon.setUsesCount(coupon.getUsesCount() + 1);
-        couponRepository.save(coupon);
+        product.setActiveCouponApplication(productCouponApplication);
+        updateFinalPrice(product, finalPrice, ActiveDiscountEnum.COUPON);
+
+        redeemCoupon(snapshot, couponCodeDTO.code());
+        discountMetrics.couponRedeemed();
 
-        DiscountDTO discountDTO = new DiscountDTO(coupon, productCouponApplication);
+        DiscountDTO discountDTO = new DiscountDTO(snapshot, productCouponApplication);
         return new ProductDiscountDTO(product, finalPrice, discountDTO, true);
     }
 
@@ -156,13 +198,14 @@ public class ProductService {
 
         validateProductAvailableDiscount(product);
 
-        BigDecimal discountFraction = directPercentageDiscountDTO.percentage().divide(BigDecimal.valueOf(100));
-        BigDecimal discountFactor = BigDecimal.ONE.subtract(discountFraction);
-        BigDecimal finalPrice = product.getPrice().multiply(discountFactor).setScale(2, RoundingMode.HALF_UP);
+        long finalPriceCents = PriceCalculator.applyPercent(
+                PriceCalculator.toCents(product.getPrice()),
+                PriceCalculator.toBasisPoints(directPercentageDiscountDTO.percentage()));
 
-        if (finalPrice.compareTo(new BigDecimal("0.01")) < 0) {
+        if (finalPriceCents < PriceCalculator.MIN_PRICE_CENTS) {
             throw new InvalidPriceException("Final price after applying discount cannot be less than 0.01");
         }
+        BigDecimal finalPrice = PriceCalculator.fromCents(finalPriceCents);
 
         ProductDirectDiscountApplication directDiscountApplication = new ProductDirectDiscountApplication();
         directDiscountApplication.setProduct(product);
@@ -170,6 +213,9 @@ public class ProductService {
         directDiscountApplication.setAppliedAt(Instant.now());
         directDiscountApplication = productDirectDiscountApplicationRepository.save(directDiscountApplication);
 
+        product.setActiveDirectDiscountApplication(directDiscountApplication);
+        updateFinalPrice(product, finalPrice, ActiveDiscountEnum.DIRECT);
+
         DiscountDTO discountDTO = new DiscountDTO(
                 CouponEnum.PERCENT.getTypeValue(),
                 directPercentageDiscountDTO.percentage(),
@@ -184,27 +230,34 @@ public class ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product with id '" + id + "' not found."));
 
-        ProductCouponApplication productCouponApplication = productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId());
+        removeActiveDiscount(product);
+    }
+
+    private void removeActiveDiscount(Product product) {
+        ProductCouponApplication productCouponApplication = product.getActiveCouponApplication();
         if (productCouponApplication != null) {
             Coupon coupon = productCouponApplication.getCoupon();
-            if (coupon.getUsesCount() <= 0) {
+            if (couponRepository.decrementUsesCount(coupon.getId(), 1) == 0) {
                 throw new DatabaseException(
                         "Data integrity error: Cannot decrement usage count for coupon '" + coupon.getCode() +
-                                "'. Current count is " + coupon.getUsesCount() + "."
+                                "'. Current count is " + couponRepository.findUsesCountById(coupon.getId()) + "."
                 );
             }
-            coupon.setUsesCount(coupon.getUsesCount() - 1);
-            couponRepository.save(coupon);
+            entityCacheEvictor.evictEntity(Coupon.class, coupon.getId());
 
             productCouponApplication.setRemovedAt(Instant.now());
             productCouponApplicationRepository.save(productCouponApplication);
+            product.setActiveCouponApplication(null);
+            updateFinalPrice(product, product.getPrice(), ActiveDiscountEnum.NONE);
             return;
         }
 
-        ProductDirectDiscountApplication productDirectDiscountApplication = productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId());
+        ProductDirectDiscountApplication productDirectDiscountApplication = product.getActiveDirectDiscountApplication();
         if (productDirectDiscountApplication != null) {
             productDirectDiscountApplication.setRemovedAt(Instant.now());
             productDirectDiscountApplicationRepository.save(productDirectDiscountApplication);
+            product.setActiveDirectDiscountApplication(null);
+            updateFinalPrice(product, product.getPrice(), ActiveDiscountEnum.NONE);
             return;
         }
 
@@ -212,19 +265,21 @@ public class ProductService {
     }
 
     @Transactional
-    public ProductDTO partialUpdateProduct(Long id, JsonPatch patch) {
+    public ProductDTO partialUpdateProduct(Long id, JsonNode patch, String ifMatch) {
         Product entity = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product with id '" + id + "' not found."));
+        ETags.checkIfMatch(ifMatch, eTag(entity), "Product with id '" + id + "'");
         BigDecimal originalPrice = entity.getPrice();
         String originalNormalizedName = entity.getNormalizedName();
 
         ProductDTO originalDto = new ProductDTO(entity);
         ProductDTO patchedDto;
         try {
-            JsonNode productNode = objectMapper.valueToTree(originalDto);
-            JsonNode patchedNode = patch.apply(productNode);
-            patchedDto = objectMapper.treeToValue(patchedNode, ProductDTO.class);
-        } catch (JsonProcessingException | JsonPatchException e) {
+            Optional<ProductDTO> compiledDto = productPatchApplier.apply(patch, originalDto);
+            patchedDto = compiledDto.isPresent()
+                    ? compiledDto.get()
+                    : objectMapper.treeToValue(JsonPatch.fromJson(patch).apply(objectMapper.valueToTree(originalDto)), ProductDTO.class);
+        } catch (IOException | JsonPatchException e) {
             throw new BusinessRuleException(e.getMessage());
         }
 
@@ -244,8 +299,11 @@ public class ProductService {
 
         if (originalPrice.compareTo(entity.getPrice()) != 0){
             hasDiscountCheck(entity);
+            entity.setFinalPrice(entity.getPrice());
+            entity.setActiveDiscountType(ActiveDiscountEnum.NONE);
         }
 
+        indexSearchTerms(entity);
         entity.setUpdatedAt(Instant.now());
         Product updatedProduct = productRepository.saveAndFlush(entity);
         return new ProductDTO(updatedProduct);
@@ -301,13 +359,33 @@ public class ProductService {
         }
     }
 
-    private BigDecimal calculateFinalPrice(Product product, Coupon coupon) {
-        if (coupon.getType() == CouponEnum.PERCENT) {
-            BigDecimal discountFactor = BigDecimal.ONE.subtract(coupon.getValue().divide(BigDecimal.valueOf(100)));
-            return product.getPrice().multiply(discountFactor).setScale(2, RoundingMode.HALF_UP);
-        } else {
-            return product.getPrice().subtract(coupon.getValue());
+    private void updateFinalPrice(Product product, BigDecimal finalPrice, ActiveDiscountEnum activeDiscountType) {
+        product.setFinalPrice(finalPrice);
+        product.setActiveDiscountType(activeDiscountType);
+    }
+
+    static void indexSearchTerms(Product product) {
+        Map<String, Integer> weights = searchTermWeights(product.getName(), product.getDescription());
+
+        product.getSearchTerms().removeIf(searchTerm -> !weights.containsKey(searchTerm.getTerm()));
+        for (ProductSearchTerm searchTerm : product.getSearchTerms()) {
+            searchTerm.setWeight(weights.remove(searchTerm.getTerm()));
         }
+        weights.forEach((term, weight) -> product.getSearchTerms().add(new ProductSearchTerm(product, term, weight)));
+    }
+
+    static Map<String, Integer> searchTermWeights(String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        Utils.tokenize(name).forEach(term -> weights.merge(term, NAME_TERM_WEIGHT, Integer::sum));
+        Utils.tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_TERM_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    private long calculateFinalPriceCents(Product product, CouponSnapshot coupon) {
+        return PriceCalculator.applyCoupon(
+                PriceCalculator.toCents(product.getPrice()),
+                coupon.type(),
+                PriceCalculator.toCents(coupon.value()));
     }
 
     private void validateProductAvailableDiscount(Product product) {
@@ -315,32 +393,65 @@ public class ProductService {
             throw new BusinessRuleException("Product is deleted and cannot have a coupon applied.");
         }
 
-        if (productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId()) != null) {
+        if (product.getActiveCouponApplication() != null) {
             throw new ResourceConflictException("Coupon is already applied to this product.");
         }
 
-        if (productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(product.getId()) != null){
+        if (product.getActiveDirectDiscountApplication() != null) {
             throw new ResourceConflictException("Direct discount is already applied to this product.");
         }
     }
 
-    private void validateCoupon(Coupon coupon) {
-        if (coupon.getOneShot() && coupon.getUsesCount() > 0) {
+    static void validateCouponSnapshot(CouponSnapshot coupon, DiscountMetrics discountMetrics) {
+        if (coupon.deletedAt() != null) {
+            discountMetrics.couponRejected(CouponRejectionEnum.DELETED);
+            throw new BusinessRuleException("Coupon is deleted and cannot be applied.");
+        }
+
+        Instant currentTime = Instant.now();
+        if (coupon.validFrom().compareTo(currentTime) > 0 || coupon.validUntil().compareTo(currentTime) < 0) {
+            discountMetrics.couponRejected(CouponRejectionEnum.OUT_OF_VALIDITY);
+            throw new BusinessRuleException("Coupon is not valid for the current date.");
+        }
+    }
+
+    private void redeemCoupon(CouponSnapshot snapshot, String code) {
+        if (couponRepository.incrementUsesCount(snapshot.id(), 1, Instant.now()) > 0) {
+            entityCacheEvictor.evictEntity(Coupon.class, snapshot.id());
+            return;
+        }
+
+        Coupon coupon = couponRepository.findById(snapshot.id())
+                .orElseThrow(() -> couponNotFound(code));
+        validateCouponSnapshot(new CouponSnapshot(coupon), discountMetrics);
+        validateCouponUsage(coupon);
+        if (coupon.getOneShot()) {
+            discountMetrics.couponRejected(CouponRejectionEnum.ONE_SHOT_USED);
             throw new ResourceConflictException("Coupon is one-shot and has already been used.");
         }
+        discountMetrics.couponRejected(CouponRejectionEnum.USAGE_LIMIT_REACHED);
+        throw new BusinessRuleException("Coupon has reached its maximum usage limit.");
+    }
 
-        if (coupon.getDeletedAt() != null) {
-            throw new BusinessRuleException("Coupon is deleted and cannot be applied.");
+    private ResourceNotFoundException couponNotFound(String code) {
+        discountMetrics.couponRejected(CouponRejectionEnum.NOT_FOUND);
+        return new ResourceNotFoundException("Coupon with code '" + code + "' not found.");
+    }
+
+    private void validateCouponUsage(Coupon coupon) {
+        if (coupon.getOneShot() && coupon.getUsesCount() > 0) {
+            discountMetrics.couponRejected(CouponRejectionEnum.ONE_SHOT_USED);
+            throw new ResourceConflictException("Coupon is one-shot and has already been used.");
         }
 
         if (coupon.getMaxUses() != null && coupon.getUsesCount() >= coupon.getMaxUses()) {
+            discountMetrics.couponRejected(CouponRejectionEnum.USAGE_LIMIT_REACHED);
             throw new BusinessRuleException("Coupon has reached its maximum usage limit.");
         }
+    }
 
-        Instant currentTime = Instant.now();
-        if (coupon.getValidFrom().compareTo(currentTime) > 0 || coupon.getValidUntil().compareTo(currentTime) < 0) {
-            throw new BusinessRuleException("Coupon is not valid for the current date.");
-        }
+    public String getCatalogETag() {
+        return ETags.of(catalogVersion.current());
     }
 
     @Transactional(readOnly = true)
@@ -348,82 +459,53 @@ public class ProductService {
             Pageable pageable, String search, BigDecimal minPrice, BigDecimal maxPrice,
             Boolean hasDiscount, Boolean includeDeleted, Boolean onlyOutOfStock, Boolean withCouponApplied) {
 
-        List<Specification<Product>> specs = new ArrayList<>();
-
-        if (includeDeleted == null || !includeDeleted) {
-            specs.add(ProductSpecification.isActive());
-        }
+        Specification<Product> finalSpec = ProductSpecification.fromFilter(new ProductFilterDTO(search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
 
-        if (search != null && !search.trim().isEmpty()) {
-            specs.add(ProductSpecification.nameOrDescriptionLike(search));
-        }
-        if (minPrice != null) {
-            specs.add(ProductSpecification.priceGreaterThanOrEqual(minPrice));
-        }
-        if (maxPrice != null) {
-            specs.add(ProductSpecification.priceLessThanOrEqual(maxPrice));
-        }
-        if (onlyOutOfStock != null && onlyOutOfStock) {
-            specs.add(ProductSpecification.isOutOfStock());
-        }
-
-        Specification<Product> finalSpec = specs.stream()
-                .reduce(Specification::and)
-                .orElse(null);
-
-        Page<Product> productPage = productRepository.findAll(finalSpec, pageable);
-
-        return convertToPageProductDiscountDTO(productPage, withCouponApplied, hasDiscount, pageable);
+        return productRepository.findListing(finalSpec, pageable).map(ProductDiscountDTO::new);
     }
 
+    @Transactional(readOnly = true)
+    public ProductSliceDTO getProductsAfter(
+            String after, int size, Sort sort, String search, BigDecimal minPrice, BigDecimal maxPrice,
+            Boolean hasDiscount, Boolean includeDeleted, Boolean onlyOutOfStock, Boolean withCouponApplied) {
 
-    private Page<ProductDiscountDTO> convertToPageProductDiscountDTO(Page<Product> productPage,Boolean withCouponApplied, Boolean hasDiscount, Pageable pageable) {
-        List<Long> productIds = productPage.getContent().stream()
-                .map(Product::getId)
-                .toList();
+        ProductCursor cursor = decodeCursor(after);
+        Sort.Order order = cursor != null ? cursor.order() : resolveCursorOrder(sort);
 
-        if (productIds.isEmpty()) {
-            return Page.empty(pageable);
+        Specification<Product> finalSpec = ProductSpecification.fromFilter(new ProductFilterDTO(search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied));
+        if (cursor != null) {
+            finalSpec = finalSpec == null ? ProductSpecification.after(cursor) : finalSpec.and(ProductSpecification.after(cursor));
         }
 
-        List<ProductCouponApplication> couponApps = productCouponApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(productIds);
-        List<ProductDirectDiscountApplication> directApps = productDirectDiscountApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(productIds);
+        Sort keysetSort = "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), "id"));
 
-        Map<Long, ProductCouponApplication> couponAppMap = couponApps.stream()
-                .collect(Collectors.toMap(app -> app.getProduct().getId(), app -> app));
-        Map<Long, ProductDirectDiscountApplication> directAppMap = directApps.stream()
-                .collect(Collectors.toMap(app -> app.getProduct().getId(), app -> app));
+        List<ProductListingProjection> rows = productRepository.findListing(finalSpec, keysetSort, size + 1);
 
-        Page<ProductDiscountDTO> dtoPage = productPage.map(product -> {
-            ProductCouponApplication couponApp = couponAppMap.get(product.getId());
-            ProductDirectDiscountApplication directApp = directAppMap.get(product.getId());
+        boolean last = rows.size() <= size;
+        List<ProductListingProjection> content = last ? rows : rows.subList(0, size);
+        String next = last ? null : ProductCursor.of(order, content.get(content.size() - 1).product()).encode();
 
-            if (couponApp != null) {
-                BigDecimal finalPrice = calculateFinalPrice(product, couponApp.getCoupon());
-                DiscountDTO discountDTO = new DiscountDTO(couponApp.getCoupon(), couponApp);
-                return new ProductDiscountDTO(product, finalPrice, discountDTO, true);
-            } else if (directApp != null) {
-                BigDecimal discountFraction = directApp.getDiscountPercentage().divide(new BigDecimal("100"));
-                BigDecimal finalPrice = product.getPrice().multiply(BigDecimal.ONE.subtract(discountFraction)).setScale(2, RoundingMode.DOWN);
-                DiscountDTO discountDTO = new DiscountDTO(CouponEnum.PERCENT.getTypeValue(), directApp.getDiscountPercentage(), directApp.getAppliedAt());
-                return new ProductDiscountDTO(product, finalPrice, discountDTO, false);
-            } else {
-                return new ProductDiscountDTO(product, product.getPrice(), null, false);
-            }
-        });
+        return new ProductSliceDTO(content.stream().map(ProductDiscountDTO::new).toList(), size, content.size(), next, last);
+    }
 
-        List<ProductDiscountDTO> filteredList = dtoPage.getContent();
-        if (hasDiscount != null) {
-            filteredList = filteredList.stream()
-                    .filter(p -> hasDiscount.equals(p.discount() != null))
-                    .toList();
+    private ProductCursor decodeCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
         }
-        if (withCouponApplied != null && withCouponApplied) {
-            filteredList = filteredList.stream()
-                    .filter(ProductDiscountDTO::hasCouponApplied)
-                    .toList();
+        try {
+            return ProductCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Invalid cursor '" + after + "'.");
         }
+    }
 
-        return new PageImpl<>(filteredList, pageable, productPage.getTotalElements());
+    private Sort.Order resolveCursorOrder(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        if (!ProductCursor.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new BusinessRuleException("Cursor pagination can only be sorted by " + String.join(", ", ProductCursor.SORTABLE_PROPERTIES) + ".");
+        }
+        return order;
     }
 }
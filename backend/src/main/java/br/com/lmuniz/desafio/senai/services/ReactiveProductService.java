@@ -0,0 +1,36 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import br.com.lmuniz.desafio.senai.repositories.ReactiveProductRepository;
+import br.com.lmuniz.desafio.senai.services.exceptions.ResourceNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@Service
+public class ReactiveProductService {
+
+    private final ReactiveProductRepository reactiveProductRepository;
+
+    public ReactiveProductService(ReactiveProductRepository reactiveProductRepository) {
+        this.reactiveProductRepository = reactiveProductRepository;
+    }
+
+    public Mono<ProductDiscountDTO> getProductById(Long id) {
+        return reactiveProductRepository.findListingById(id)
+                .map(ProductDiscountDTO::new)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product with id '" + id + "' not found.")));
+    }
+
+    public Flux<ProductDiscountDTO> getAllProducts(
+            Pageable pageable, String search, BigDecimal minPrice, BigDecimal maxPrice,
+            Boolean hasDiscount, Boolean includeDeleted, Boolean onlyOutOfStock, Boolean withCouponApplied) {
+
+        ProductFilterDTO filter = new ProductFilterDTO(search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied);
+        return reactiveProductRepository.findListing(filter, pageable).map(ProductDiscountDTO::new);
+    }
+}
@@ -0,0 +1,316 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
+import br.com.lmuniz.desafio.senai.domains.dtos.seeds.SyntheticDataResultDTO;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.CouponApplicationRow;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.CouponRow;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.CouponUsageRow;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.DirectDiscountApplicationRow;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.ProductRow;
+import br.com.lmuniz.desafio.senai.repositories.SyntheticDataRepository.SearchTermRow;
+import br.com.lmuniz.desafio.senai.utils.PriceCalculator;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+@Service
+public class SyntheticDataService {
+
+    private static final List<String> PRODUCT_TYPES = List.of(
+            "Cafeteira", "Chaleira", "Liquidificador", "Batedeira", "Torradeira", "Sanduicheira", "Panela",
+            "Frigideira", "Caçarola", "Leiteira", "Garrafa Térmica", "Xícara", "Caneca", "Prato Fundo", "Tigela",
+            "Faqueiro", "Espremedor", "Processador", "Fritadeira Elétrica", "Grill", "Micro-ondas", "Forno Elétrico",
+            "Cooktop", "Depurador", "Aspirador", "Ventilador", "Umidificador", "Purificador de Água",
+            "Ferro de Passar", "Secador de Cabelo", "Escova Secadora", "Balança de Cozinha", "Mixer", "Moedor de Café",
+            "Máquina de Espresso", "Jarra", "Açucareiro", "Bule", "Chapa Bifeteira", "Panificadora"
+    );
+    private static final List<String> QUALIFIERS = List.of(
+            "Inox", "Antiaderente", "Digital", "Compacto", "Premium", "Automático", "Portátil", "Turbo", "Clássico",
+            "Vintage", "Profissional", "Smart", "Cerâmica", "Vidro Temperado", "Bivolt", "110V", "220V", "Slim",
+            "Plus", "Grafite"
+    );
+    private static final List<String> BRANDS = List.of(
+            "Mondial", "Britânia", "Arno", "Philco", "Oster", "Electrolux", "Tramontina", "Cadence", "Black+Decker",
+            "Walita", "Brastemp", "Consul", "Fischer", "Lenoxx", "Agratto", "Elgin", "Midea", "Polishop", "Tefal",
+            "Oxford"
+    );
+    private static final List<String> DESCRIPTIONS = List.of(
+            "Capacidade de %d litros, desligamento automático.",
+            "Garantia de %d meses direto com o fabricante.",
+            "Potência de %d0 W, ideal para o café da manhã.",
+            "Acabamento em aço inox escovado, %d anos de garantia.",
+            "Peças removíveis, fáceis de limpar. Acompanha %d acessórios.",
+            "Design clássico e elegante, disponível em %d cores.",
+            "Mantém a temperatura por até %d horas.",
+            "Lâminas de cerâmica com %d níveis de ajuste."
+    );
+    private static final List<String> COUPON_PREFIXES = List.of(
+            "promo", "desconto", "oferta", "black", "natal", "verao", "volta", "frete", "relampago", "vip"
+    );
+
+    private static final long MIN_PRICE_CENTS = 500;
+    private static final long MAX_PRICE_CENTS = 500_000;
+    private static final long MAX_PRODUCT_AGE_SECONDS = Duration.ofDays(730).toSeconds();
+
+    private final SyntheticDataRepository syntheticDataRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final long seed;
+    private final int productCount;
+    private final int couponCount;
+    private final double activeCouponShare;
+    private final double activeDirectDiscountShare;
+    private final double historicalShare;
+    private final double deletedProductShare;
+    private final int batchSize;
+
+    public SyntheticDataService(SyntheticDataRepository syntheticDataRepository,
+                                EntityCacheEvictor entityCacheEvictor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${synthetic-data.seed}") long seed,
+                                @Value("${synthetic-data.products}") int productCount,
+                                @Value("${synthetic-data.coupons}") int couponCount,
+                                @Value("${synthetic-data.active-coupon-share}") double activeCouponShare,
+                                @Value("${synthetic-data.active-direct-discount-share}") double activeDirectDiscountShare,
+                                @Value("${synthetic-data.historical-share}") double historicalShare,
+                                @Value("${synthetic-data.deleted-product-share}") double deletedProductShare,
+                                @Value("${synthetic-data.batch-size}") int batchSize) {
+        this.syntheticDataRepository = syntheticDataRepository;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seed = seed;
+        this.productCount = productCount;
+        this.couponCount = couponCount;
+        this.activeCouponShare = activeCouponShare;
+        this.activeDirectDiscountShare = activeDirectDiscountShare;
+        this.historicalShare = historicalShare;
+        this.deletedProductShare = deletedProductShare;
+        this.batchSize = batchSize;
+    }
+
+    public SyntheticDataResultDTO generate() {
+        if (syntheticDataRepository.hasCatalogData()) {
+            throw new IllegalStateException("Synthetic data can only be generated into an empty catalog. Remove db/seed from spring.flyway.locations.");
+        }
+        long start = System.nanoTime();
+        Generation generation = new Generation(new SplittableRandom(seed), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        List<CouponRow> coupons = generation.coupons();
+        if (!coupons.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> syntheticDataRepository.insertCoupons(coupons));
+        }
+
+        for (int from = 0; from < productCount; from += batchSize) {
+            int to = Math.min(from + batchSize, productCount);
+            Batch batch = new Batch(to - from);
+            for (int index = from; index < to; index++) {
+                generation.product(index, batch);
+            }
+            transactionTemplate.executeWithoutResult(status -> batch.flush(syntheticDataRepository));
+            generation.count(batch);
+        }
+
+        List<CouponUsageRow> usages = generation.couponUsages();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!usages.isEmpty()) {
+                syntheticDataRepository.updateCouponUsage(usages);
+            }
+            syntheticDataRepository.restartIdentifiers(productCount + 1L, generation.nextSearchTermId, couponCount + 1L);
+        });
+        entityCacheEvictor.evictAll();
+
+        return new SyntheticDataResultDTO(seed, productCount, generation.searchTerms, coupons.size(),
+                generation.couponApplications, generation.directDiscountApplications, System.nanoTime() - start);
+    }
+
+    private final class Generation {
+
+        private final SplittableRandom random;
+        private final Instant now;
+        private final List<CouponRow> coupons = new ArrayList<>();
+        private final List<CouponRow> redeemableCoupons = new ArrayList<>();
+        private final List<CouponRow> reusableCoupons = new ArrayList<>();
+        private final int[] usesCount = new int[couponCount];
+        private long nextSearchTermId = 1;
+        private long searchTerms;
+        private long couponApplications;
+        private long directDiscountApplications;
+
+        private Generation(SplittableRandom random, Instant now) {
+            this.random = random;
+            this.now = now;
+        }
+
+        private List<CouponRow> coupons() {
+            for (int index = 0; index < couponCount; index++) {
+                CouponEnum type = random.nextInt(10) < 6 ? CouponEnum.PERCENT : CouponEnum.FIXED;
+                BigDecimal value = BigDecimal.valueOf(type == CouponEnum.PERCENT ? 5 + random.nextInt(46) : 5 + random.nextInt(146)).setScale(2);
+                boolean oneShot = random.nextInt(10) == 0;
+
+                Instant validFrom;
+                Instant validUntil;
+                int window = random.nextInt(100);
+                if (window < 65) {
+                    validFrom = now.minus(random.nextLong(Duration.ofDays(60).toSeconds()), ChronoUnit.SECONDS);
+                    validUntil = now.plus(Duration.ofHours(1).toSeconds() + random.nextLong(Duration.ofDays(90).toSeconds()), ChronoUnit.SECONDS);
+                } else if (window < 85) {
+                    validUntil = now.minus(Duration.ofHours(1).toSeconds() + random.nextLong(Duration.ofDays(180).toSeconds()), ChronoUnit.SECONDS);
+                    validFrom = validUntil.minus(Duration.ofDays(1).toSeconds() + random.nextLong(Duration.ofDays(60).toSeconds()), ChronoUnit.SECONDS);
+                } else {
+                    validFrom = now.plus(Duration.ofHours(1).toSeconds() + random.nextLong(Duration.ofDays(30).toSeconds()), ChronoUnit.SECONDS);
+                    validUntil = validFrom.plus(Duration.ofDays(1).toSeconds() + random.nextLong(Duration.ofDays(60).toSeconds()), ChronoUnit.SECONDS);
+                }
+                Instant createdAt = (validFrom.isBefore(now) ? validFrom : now).minus(random.nextLong(Duration.ofDays(7).toSeconds()), ChronoUnit.SECONDS);
+                Instant deletedAt = random.nextInt(20) == 0 ? between(createdAt, now) : null;
+
+                CouponRow coupon = new CouponRow(index + 1L,
+                        COUPON_PREFIXES.get(index % COUPON_PREFIXES.size()) + (index / COUPON_PREFIXES.size() + 1),
+                        type, value, oneShot, validFrom, validUntil, createdAt, deletedAt);
+                coupons.add(coupon);
+                if (!oneShot) {
+                    reusableCoupons.add(coupon);
+                    if (deletedAt == null && !validFrom.isAfter(now) && validUntil.isAfter(now)) {
+                        redeemableCoupons.add(coupon);
+                    }
+                }
+            }
+            return coupons;
+        }
+
+        private void product(int index, Batch batch) {
+            long id = index + 1L;
+            String name = productName(index);
+            String description = random.nextInt(10) == 0 ? null : String.format(
+                    DESCRIPTIONS.get(random.nextInt(DESCRIPTIONS.size())), 2 + random.nextInt(23));
+            long priceCents = Math.round(Math.exp(Math.log(MIN_PRICE_CENTS)
+                    + random.nextDouble() * (Math.log(MAX_PRICE_CENTS) - Math.log(MIN_PRICE_CENTS))));
+            int stock = random.nextInt(20) == 0 ? 0 : 1 + random.nextInt(500);
+            Instant createdAt = now.minus(random.nextLong(MAX_PRODUCT_AGE_SECONDS), ChronoUnit.SECONDS);
+            Instant updatedAt = random.nextInt(10) < 4 ? between(createdAt, now) : null;
+            Instant deletedAt = random.nextDouble() < deletedProductShare ? between(createdAt, now) : null;
+
+            ActiveDiscountEnum activeDiscountType = ActiveDiscountEnum.NONE;
+            long finalPriceCents = priceCents;
+            Instant historyLimit = deletedAt != null ? deletedAt : now;
+
+            double discountRoll = random.nextDouble();
+            if (deletedAt == null && discountRoll < activeCouponShare) {
+                if (!redeemableCoupons.isEmpty()) {
+                    CouponRow coupon = redeemableCoupons.get(random.nextInt(redeemableCoupons.size()));
+                    long discounted = PriceCalculator.applyCoupon(priceCents, coupon.type(), PriceCalculator.toCents(coupon.value()));
+                    if (discounted >= 1) {
+                        Instant appliedAt = between(createdAt.isAfter(coupon.validFrom()) ? createdAt : coupon.validFrom(), now);
+                        batch.couponApplications.add(new CouponApplicationRow(id, coupon.id(), appliedAt, null));
+                        usesCount[(int) coupon.id() - 1]++;
+                        activeDiscountType = ActiveDiscountEnum.COUPON;
+                        finalPriceCents = discounted;
+                        historyLimit = appliedAt;
+                    }
+                }
+            } else if (deletedAt == null && discountRoll < activeCouponShare + activeDirectDiscountShare) {
+                BigDecimal percentage = directDiscountPercentage();
+                Instant appliedAt = between(createdAt, now);
+                batch.directDiscountApplications.add(new DirectDiscountApplicationRow(id, percentage, appliedAt, null));
+                activeDiscountType = ActiveDiscountEnum.DIRECT;
+                finalPriceCents = PriceCalculator.applyPercent(priceCents, PriceCalculator.toBasisPoints(percentage));
+                historyLimit = appliedAt;
+            }
+
+            if (random.nextDouble() < historicalShare) {
+                Instant cursor = createdAt;
+                for (int applications = 1 + random.nextInt(3); applications > 0; applications--) {
+                    Instant appliedAt = between(cursor, historyLimit);
+                    Instant removedAt = between(appliedAt, historyLimit);
+                    if (random.nextBoolean() && !reusableCoupons.isEmpty()) {
+                        CouponRow coupon = reusableCoupons.get(random.nextInt(reusableCoupons.size()));
+                        batch.couponApplications.add(new CouponApplicationRow(id, coupon.id(), appliedAt, removedAt));
+                        usesCount[(int) coupon.id() - 1]++;
+                    } else {
+                        batch.directDiscountApplications.add(new DirectDiscountApplicationRow(id, directDiscountPercentage(), appliedAt, removedAt));
+                    }
+                    cursor = removedAt;
+                }
+            }
+
+            batch.products.add(new ProductRow(id, name, Utils.normalizeName(name), description,
+                    PriceCalculator.fromCents(priceCents), PriceCalculator.fromCents(finalPriceCents), activeDiscountType,
+                    stock, createdAt, updatedAt, deletedAt));
+            ProductService.searchTermWeights(name, description).forEach((term, weight) ->
+                    batch.searchTerms.add(new SearchTermRow(nextSearchTermId++, id, term, weight)));
+        }
+
+        private List<CouponUsageRow> couponUsages() {
+            List<CouponUsageRow> usages = new ArrayList<>();
+            for (CouponRow coupon : coupons) {
+                int uses = usesCount[(int) coupon.id() - 1];
+                Integer maxUses = coupon.oneShot() || random.nextBoolean() ? null : Math.max(1, uses + random.nextInt(200));
+                if (uses > 0 || maxUses != null) {
+                    usages.add(new CouponUsageRow(coupon.id(), uses, maxUses));
+                }
+            }
+            return usages;
+        }
+
+        private void count(Batch batch) {
+            searchTerms += batch.searchTerms.size();
+            couponApplications += batch.couponApplications.size();
+            directDiscountApplications += batch.directDiscountApplications.size();
+        }
+
+        private String productName(int index) {
+            int types = PRODUCT_TYPES.size();
+            int qualifiers = QUALIFIERS.size();
+            int combinations = types * qualifiers * BRANDS.size();
+            String name = PRODUCT_TYPES.get(index % types) + " " + QUALIFIERS.get(index / types % qualifiers) + " "
+                    + BRANDS.get(index / (types * qualifiers) % BRANDS.size());
+            return index < combinations ? name : name + " " + (index / combinations + 1);
+        }
+
+        private BigDecimal directDiscountPercentage() {
+            return BigDecimal.valueOf(5 + random.nextInt(56)).setScale(2);
+        }
+
+        private Instant between(Instant from, Instant to) {
+            long seconds = to.getEpochSecond() - from.getEpochSecond();
+            return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds + 1));
+        }
+    }
+
+    private static final class Batch {
+
+        private final List<ProductRow> products;
+        private final List<SearchTermRow> searchTerms;
+        private final List<CouponApplicationRow> couponApplications = new ArrayList<>();
+        private final List<DirectDiscountApplicationRow> directDiscountApplications = new ArrayList<>();
+
+        private Batch(int size) {
+            this.products = new ArrayList<>(size);
+            this.searchTerms = new ArrayList<>(size * 8);
+        }
+
+        private void flush(SyntheticDataRepository repository) {
+            repository.insertProducts(products);
+            repository.insertSearchTerms(searchTerms);
+            if (!couponApplications.isEmpty()) {
+                repository.insertCouponApplications(couponApplications);
+            }
+            if (!directDiscountApplications.isEmpty()) {
+                repository.insertDirectDiscountApplications(directDiscountApplications);
+            }
+            repository.linkActiveDiscounts(products.get(0).id(), products.get(products.size() - 1).id());
+        }
+    }
+}
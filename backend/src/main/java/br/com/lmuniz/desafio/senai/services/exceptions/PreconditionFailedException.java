@@ -0,0 +1,7 @@
+package br.com.lmuniz.desafio.senai.services.exceptions;
+
+public class PreconditionFailedException extends RuntimeException{
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
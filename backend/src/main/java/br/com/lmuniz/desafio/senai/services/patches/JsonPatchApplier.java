@@ -0,0 +1,165 @@
+package br.com.lmuniz.desafio.senai.services.patches;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+public class JsonPatchApplier<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, PatchField<T, ?>> fields;
+
+    private JsonPatchApplier(ObjectMapper objectMapper, Map<String, PatchField<T, ?>> fields) {
+        this.objectMapper = objectMapper;
+        this.fields = Map.copyOf(fields);
+    }
+
+    public static <T> Builder<T> builder(ObjectMapper objectMapper) {
+        return new Builder<>(objectMapper);
+    }
+
+    public Optional<T> apply(JsonNode patch, T target) throws JsonProcessingException {
+        List<PatchOperation<T>> operations = compile(patch);
+        if (operations == null) {
+            return Optional.empty();
+        }
+
+        List<Object> values = new ArrayList<>(operations.size());
+        for (PatchOperation<T> operation : operations) {
+            values.add(operation.value() == null ? operation.field().absentValue() : read(operation.field(), operation.value()));
+        }
+
+        T result = target;
+        for (int i = 0; i < operations.size(); i++) {
+            result = operations.get(i).field().assign(result, values.get(i));
+        }
+        return Optional.of(result);
+    }
+
+    private List<PatchOperation<T>> compile(JsonNode operations) {
+        if (!operations.isArray()) {
+            return null;
+        }
+        List<PatchOperation<T>> compiled = new ArrayList<>(operations.size());
+        Set<String> touched = new HashSet<>();
+
+        for (JsonNode operation : operations) {
+            String path = operation.path("path").asText();
+            if (!path.startsWith("/") || path.indexOf('/', 1) != -1 || path.indexOf('~') != -1) {
+                return null;
+            }
+            String name = path.substring(1);
+            PatchField<T, ?> field = fields.get(name);
+            if (field == null || !touched.add(name)) {
+                return null;
+            }
+
+            switch (operation.path("op").asText()) {
+                case "add", "replace" -> {
+                    if (!operation.has("value")) {
+                        return null;
+                    }
+                    compiled.add(new PatchOperation<>(field, operation.get("value")));
+                }
+                case "remove" -> compiled.add(new PatchOperation<>(field, null));
+                default -> {
+                    return null;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private Object read(PatchField<T, ?> field, JsonNode value) throws JsonProcessingException {
+        try {
+            return field.reader().read(value);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw JsonMappingException.from((JsonParser) null, e.getMessage(), e);
+        }
+    }
+
+    private record PatchField<T, V>(PatchValueReader<V> reader, BiFunction<T, V, T> setter, V absentValue) {
+
+        @SuppressWarnings("unchecked")
+        private T assign(T target, Object value) {
+            return setter.apply(target, (V) value);
+        }
+    }
+
+    private record PatchOperation<T>(PatchField<T, ?> field, JsonNode value) {
+    }
+
+    public static class Builder<T> {
+
+        private final ObjectMapper objectMapper;
+        private final Map<String, PatchField<T, ?>> fields = new HashMap<>();
+
+        private Builder(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        public <V> Builder<T> field(String name, Class<V> type, BiFunction<T, V, T> setter) {
+            return field(name, typedReader(type), setter, null);
+        }
+
+        public <V> Builder<T> field(String name, PatchValueReader<V> reader, BiFunction<T, V, T> setter, V absentValue) {
+            fields.put(name, new PatchField<>(reader, setter, absentValue));
+            return this;
+        }
+
+        public <V> Builder<T> mutableField(String name, Class<V> type, BiConsumer<T, V> setter) {
+            return mutableField(name, type, setter, null);
+        }
+
+        public <V> Builder<T> mutableField(String name, Class<V> type, BiConsumer<T, V> setter, V absentValue) {
+            return field(name, typedReader(type), (target, value) -> {
+                setter.accept(target, value);
+                return target;
+            }, absentValue);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <V> PatchValueReader<V> typedReader(Class<V> type) {
+            return node -> {
+                if (type == String.class && node.isTextual()) {
+                    return (V) node.textValue();
+                }
+                if (type == Integer.class && node.isInt()) {
+                    return (V) Integer.valueOf(node.intValue());
+                }
+                if (type == Long.class && (node.isInt() || node.isLong())) {
+                    return (V) Long.valueOf(node.longValue());
+                }
+                if (type == BigDecimal.class && node.isNumber()) {
+                    return (V) node.decimalValue();
+                }
+                if ((type == Boolean.class || type == boolean.class) && node.isBoolean()) {
+                    return (V) Boolean.valueOf(node.booleanValue());
+                }
+                return objectMapper.treeToValue(node, type);
+            };
+        }
+
+        public JsonPatchApplier<T> build() {
+            return new JsonPatchApplier<>(objectMapper, fields);
+        }
+    }
+}
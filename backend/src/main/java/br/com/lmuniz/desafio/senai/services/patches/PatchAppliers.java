@@ -0,0 +1,62 @@
+package br.com.lmuniz.desafio.senai.services.patches;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.serializers.PriceDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public final class PatchAppliers {
+
+    private PatchAppliers() {
+    }
+
+    public static JsonPatchApplier<ProductDTO> product(ObjectMapper objectMapper) {
+        return JsonPatchApplier.<ProductDTO>builder(objectMapper)
+                .field("id", Long.class, (dto, value) -> new ProductDTO(value, dto.name(), dto.description(), dto.stock(), dto.price()))
+                .field("name", String.class, (dto, value) -> new ProductDTO(dto.id(), value, dto.description(), dto.stock(), dto.price()))
+                .field("description", String.class, (dto, value) -> new ProductDTO(dto.id(), dto.name(), value, dto.stock(), dto.price()))
+                .field("stock", Integer.class, (dto, value) -> new ProductDTO(dto.id(), dto.name(), dto.description(), value, dto.price()))
+                .field("price", node -> node.isNull() ? null : PriceDeserializer.fromNode(node),
+                        (dto, value) -> new ProductDTO(dto.id(), dto.name(), dto.description(), dto.stock(), value), null)
+                .build();
+    }
+
+    public static JsonPatchApplier<Coupon> coupon(ObjectMapper objectMapper) {
+        return JsonPatchApplier.<Coupon>builder(objectMapper)
+                .mutableField("id", Long.class, Coupon::setId)
+                .mutableField("code", String.class, Coupon::setCode)
+                .mutableField("type", CouponEnum.class, Coupon::setType)
+                .mutableField("value", BigDecimal.class, Coupon::setValue)
+                .mutableField("oneShot", boolean.class, Coupon::setOneShot, false)
+                .mutableField("maxUses", Integer.class, Coupon::setMaxUses)
+                .mutableField("usesCount", Integer.class, Coupon::setUsesCount, 0)
+                .mutableField("validFrom", Instant.class, Coupon::setValidFrom)
+                .mutableField("validUntil", Instant.class, Coupon::setValidUntil)
+                .mutableField("createdAt", Instant.class, Coupon::setCreatedAt)
+                .mutableField("updatedAt", Instant.class, Coupon::setUpdatedAt)
+                .mutableField("deletedAt", Instant.class, Coupon::setDeletedAt)
+                .build();
+    }
+
+    public static Coupon copyOf(Coupon entity) {
+        Coupon copy = new Coupon(
+                entity.getCode(),
+                entity.getType(),
+                entity.getValue(),
+                entity.getOneShot(),
+                entity.getMaxUses(),
+                entity.getValidFrom(),
+                entity.getValidUntil()
+        );
+        copy.setId(entity.getId());
+        copy.setUsesCount(entity.getUsesCount());
+        copy.setCreatedAt(entity.getCreatedAt());
+        copy.setUpdatedAt(entity.getUpdatedAt());
+        copy.setDeletedAt(entity.getDeletedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.lmuniz.desafio.senai.services.patches;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface PatchValueReader<V> {
+    V read(JsonNode node) throws IOException;
+}
@@ -0,0 +1,32 @@
+package br.com.lmuniz.desafio.senai.utils;
+
+import br.com.lmuniz.desafio.senai.services.exceptions.PreconditionFailedException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class ETags {
+
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(".", "\"", "\""));
+    }
+
+    public static boolean matches(String ifMatch, String eTag) {
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals(ANY) || candidate.equals(eTag));
+    }
+
+    public static void checkIfMatch(String ifMatch, String eTag, String resource) {
+        if (ifMatch != null && !matches(ifMatch, eTag)) {
+            throw new PreconditionFailedException(resource + " has been modified. Current ETag is " + eTag + ".");
+        }
+    }
+}
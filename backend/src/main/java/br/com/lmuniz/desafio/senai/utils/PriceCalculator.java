@@ -0,0 +1,42 @@
+package br.com.lmuniz.desafio.senai.utils;
+
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class PriceCalculator {
+
+    public static final long MIN_PRICE_CENTS = 1L;
+    private static final long BASIS_POINTS = 10_000L;
+    private static final long HALF_BASIS_POINTS = BASIS_POINTS / 2;
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public static long toBasisPoints(BigDecimal percentage) {
+        return toCents(percentage);
+    }
+
+    public static long applyPercent(long priceCents, long discountBasisPoints) {
+        long scaled = priceCents * (BASIS_POINTS - discountBasisPoints);
+        return scaled >= 0
+                ? (scaled + HALF_BASIS_POINTS) / BASIS_POINTS
+                : (scaled - HALF_BASIS_POINTS) / BASIS_POINTS;
+    }
+
+    public static long applyFixed(long priceCents, long discountCents) {
+        return priceCents - discountCents;
+    }
+
+    public static long applyCoupon(long priceCents, CouponEnum type, long couponValueHundredths) {
+        return type == CouponEnum.PERCENT
+                ? applyPercent(priceCents, couponValueHundredths)
+                : applyFixed(priceCents, couponValueHundredths);
+    }
+}
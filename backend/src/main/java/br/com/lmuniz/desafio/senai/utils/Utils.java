@@ -1,6 +1,12 @@
 package br.com.lmuniz.desafio.senai.utils;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class Utils {
+
+    public static final int MAX_TOKEN_LENGTH = 100;
+
     public static String normalizeName(String name) {
         String normalized = null;
         if (name != null) {
@@ -10,4 +16,16 @@ public class Utils {
         }
         return normalized;
     }
+
+    public static List<String> tokenize(String text) {
+        String normalized = normalizeName(text);
+        if (normalized == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(normalized.split("[^\\p{Alnum}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token)
+                .distinct()
+                .toList();
+    }
 }
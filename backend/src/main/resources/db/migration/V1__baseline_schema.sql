@@ -0,0 +1,79 @@
+CREATE SEQUENCE products_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE product_search_terms_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE products (
+    id                   BIGINT                                NOT NULL,
+    name                 VARCHAR(100)                          NOT NULL,
+    normalized_name      VARCHAR(100)                          NOT NULL,
+    description          TEXT,
+    price                NUMERIC(9, 2)                         NOT NULL,
+    final_price          NUMERIC(9, 2)                         NOT NULL,
+    active_discount_type ENUM ('COUPON', 'DIRECT', 'NONE')     NOT NULL,
+    stock                INTEGER                               NOT NULL,
+    created_at           TIMESTAMP WITHOUT TIME ZONE           NOT NULL,
+    updated_at           TIMESTAMP WITHOUT TIME ZONE,
+    deleted_at           TIMESTAMP WITHOUT TIME ZONE,
+    version              BIGINT DEFAULT 0                      NOT NULL,
+    CONSTRAINT pk_products PRIMARY KEY (id),
+    CONSTRAINT uk_products_normalized_name UNIQUE (normalized_name)
+);
+
+CREATE TABLE coupons (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    code         VARCHAR(20)                           NOT NULL,
+    type         ENUM ('FIXED', 'PERCENT', 'UNKNOWN')  NOT NULL,
+    coupon_value NUMERIC(38, 2)                        NOT NULL,
+    one_shot     BOOLEAN                               NOT NULL,
+    max_uses     INTEGER,
+    uses_count   INTEGER,
+    valid_from   TIMESTAMP WITHOUT TIME ZONE           NOT NULL,
+    valid_until  TIMESTAMP WITHOUT TIME ZONE           NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE           NOT NULL,
+    updated_at   TIMESTAMP WITHOUT TIME ZONE,
+    deleted_at   TIMESTAMP WITHOUT TIME ZONE,
+    version      BIGINT DEFAULT 0                      NOT NULL,
+    CONSTRAINT pk_coupons PRIMARY KEY (id),
+    CONSTRAINT uk_coupons_code UNIQUE (code)
+);
+
+CREATE TABLE product_coupon_applications (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_id BIGINT                      NOT NULL,
+    coupon_id  BIGINT                      NOT NULL,
+    applied_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    removed_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_product_coupon_applications PRIMARY KEY (id),
+    CONSTRAINT fk_pca_product FOREIGN KEY (product_id) REFERENCES products (id),
+    CONSTRAINT fk_pca_coupon FOREIGN KEY (coupon_id) REFERENCES coupons (id)
+);
+
+CREATE TABLE product_direct_discount_applications (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_id          BIGINT                      NOT NULL,
+    discount_percentage NUMERIC(38, 2),
+    applied_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    removed_at          TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_product_direct_discount_applications PRIMARY KEY (id),
+    CONSTRAINT fk_pdda_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE product_search_terms (
+    id         BIGINT       NOT NULL,
+    product_id BIGINT       NOT NULL,
+    term       VARCHAR(100) NOT NULL,
+    weight     INTEGER      NOT NULL,
+    CONSTRAINT pk_product_search_terms PRIMARY KEY (id),
+    CONSTRAINT uk_pst_product_term UNIQUE (product_id, term),
+    CONSTRAINT fk_pst_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE INDEX idx_pca_product_removed_at ON product_coupon_applications (product_id, removed_at);
+
+CREATE INDEX idx_pca_coupon_removed_at ON product_coupon_applications (coupon_id, removed_at);
+
+CREATE INDEX idx_pdda_product_removed_at ON product_direct_discount_applications (product_id, removed_at);
+
+CREATE INDEX idx_pst_term_product ON product_search_terms (term, product_id);
+
+CREATE INDEX idx_products_final_price ON products (final_price);
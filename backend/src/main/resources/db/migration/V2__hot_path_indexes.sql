@@ -0,0 +1,15 @@
+CREATE INDEX idx_products_deleted_at_id ON products (deleted_at, id);
+
+CREATE INDEX idx_products_deleted_at_final_price ON products (deleted_at, final_price);
+
+CREATE INDEX idx_coupons_deleted_at_validity ON coupons (deleted_at, valid_until, valid_from);
+
+ALTER TABLE product_coupon_applications
+    ADD COLUMN active_product_id BIGINT GENERATED ALWAYS AS (CASE WHEN removed_at IS NULL THEN product_id END);
+
+CREATE UNIQUE INDEX uk_pca_active_product ON product_coupon_applications (active_product_id);
+
+ALTER TABLE product_direct_discount_applications
+    ADD COLUMN active_product_id BIGINT GENERATED ALWAYS AS (CASE WHEN removed_at IS NULL THEN product_id END);
+
+CREATE UNIQUE INDEX uk_pdda_active_product ON product_direct_discount_applications (active_product_id);
@@ -0,0 +1,32 @@
+ALTER TABLE products ADD COLUMN active_coupon_application_id BIGINT;
+
+ALTER TABLE products ADD COLUMN active_direct_discount_application_id BIGINT;
+
+ALTER TABLE products
+    ADD CONSTRAINT fk_products_active_coupon_application
+        FOREIGN KEY (active_coupon_application_id) REFERENCES product_coupon_applications (id);
+
+ALTER TABLE products
+    ADD CONSTRAINT fk_products_active_direct_discount_application
+        FOREIGN KEY (active_direct_discount_application_id) REFERENCES product_direct_discount_applications (id);
+
+ALTER TABLE products
+    ADD CONSTRAINT uk_products_active_coupon_application UNIQUE (active_coupon_application_id);
+
+ALTER TABLE products
+    ADD CONSTRAINT uk_products_active_direct_discount_application UNIQUE (active_direct_discount_application_id);
+
+ALTER TABLE products
+    ADD CONSTRAINT ck_products_single_active_discount CHECK (
+        (active_coupon_application_id IS NULL OR active_direct_discount_application_id IS NULL)
+        AND (active_coupon_application_id IS NULL OR active_discount_type = 'COUPON')
+        AND (active_direct_discount_application_id IS NULL OR active_discount_type = 'DIRECT')
+    );
+
+UPDATE products p
+SET active_coupon_application_id = (SELECT a.id FROM product_coupon_applications a WHERE a.product_id = p.id AND a.removed_at IS NULL)
+WHERE p.active_discount_type = 'COUPON';
+
+UPDATE products p
+SET active_direct_discount_application_id = (SELECT a.id FROM product_direct_discount_applications a WHERE a.product_id = p.id AND a.removed_at IS NULL)
+WHERE p.active_discount_type = 'DIRECT';
@@ -0,0 +1,157 @@
+-- ================================================================= --
+-- PRODUTOS
+-- ================================================================= --
+
+INSERT INTO products (id, name, normalized_name, description, price, final_price, active_discount_type, stock, created_at, updated_at, deleted_at) VALUES
+(1, 'Cafeteira Elétrica Mondial', 'cafeteira eletrica mondial', 'Prepara até 20 xícaras de café.', 199.90, 199.90, 'NONE', 50, NOW(), NULL, NULL),
+(2, 'Filtro de Papel Melitta 103', 'filtro de papel melitta 103', 'Caixa com 30 unidades.', 5.50, 5.50, 'NONE', 200, NOW(), NULL, NULL),
+(3, 'Máquina de Espresso Profissional', 'maquina de espresso profissional', 'Com moedor de grãos integrado.', 2500.00, 2500.00, 'NONE', 10, NOW(), NULL, NULL),
+(4, 'Cápsulas de Café Intenso', 'capsulas de cafe intenso', 'Compatível com máquinas Nespresso.', 45.80, 45.80, 'NONE', 150, NOW(), NULL, NULL),
+(5, 'Chaleira Elétrica Inox', 'chaleira eletrica inox', 'Capacidade de 1.7 litros, desligamento automático.', 149.99, 112.49, 'DIRECT', 30, NOW(), NULL, NULL),
+(6, 'Moedor de Café Manual', 'moedor de cafe manual', 'Lâminas de cerâmica para uma moagem precisa.', 89.90, 89.90, 'NONE', 40, NOW(), NULL, NULL),
+(7, 'Prensa Francesa 600ml', 'prensa francesa 600ml', 'Vidro de borossilicato e estrutura de aço inox.', 110.00, 110.00, 'NONE', 25, NOW(), NULL, NULL),
+(8, 'Bule Térmico 1L - Vermelho', 'bule termico 1l vermelho', 'Mantém a temperatura por até 12 horas.', 75.40, 75.40, 'NONE', 0, NOW(), NULL, NULL),
+(9, 'Xícara de Porcelana Branca', 'xicara de porcelana branca', 'Design clássico e elegante.', 12.00, 12.00, 'NONE', 120, NOW(), NULL, NOW()),
+(10, 'Leiteira de Alumínio 1.5L', 'leiteira de aluminio 1.5l', 'Ferve o leite de forma rápida e segura.', 35.00, 35.00, 'NONE', 60, NOW(), DATEADD('DAY', -1, NOW()), NULL); -- Corrigido aqui
+
+ALTER SEQUENCE products_seq RESTART WITH 11;
+
+INSERT INTO product_search_terms (id, product_id, term, weight) VALUES
+(1, 1, 'cafeteira', 3),
+(2, 1, 'eletrica', 3),
+(3, 1, 'mondial', 3),
+(4, 1, 'prepara', 1),
+(5, 1, 'ate', 1),
+(6, 1, '20', 1),
+(7, 1, 'xicaras', 1),
+(8, 1, 'de', 1),
+(9, 1, 'cafe', 1),
+(10, 2, 'filtro', 3),
+(11, 2, 'de', 3),
+(12, 2, 'papel', 3),
+(13, 2, 'melitta', 3),
+(14, 2, '103', 3),
+(15, 2, 'caixa', 1),
+(16, 2, 'com', 1),
+(17, 2, '30', 1),
+(18, 2, 'unidades', 1),
+(19, 3, 'maquina', 3),
+(20, 3, 'de', 4),
+(21, 3, 'espresso', 3),
+(22, 3, 'profissional', 3),
+(23, 3, 'com', 1),
+(24, 3, 'moedor', 1),
+(25, 3, 'graos', 1),
+(26, 3, 'integrado', 1),
+(27, 4, 'capsulas', 3),
+(28, 4, 'de', 3),
+(29, 4, 'cafe', 3),
+(30, 4, 'intenso', 3),
+(31, 4, 'compativel', 1),
+(32, 4, 'com', 1),
+(33, 4, 'maquinas', 1),
+(34, 4, 'nespresso', 1),
+(35, 5, 'chaleira', 3),
+(36, 5, 'eletrica', 3),
+(37, 5, 'inox', 3),
+(38, 5, 'capacidade', 1),
+(39, 5, 'de', 1),
+(40, 5, '1', 1),
+(41, 5, '7', 1),
+(42, 5, 'litros', 1),
+(43, 5, 'desligamento', 1),
+(44, 5, 'automatico', 1),
+(45, 6, 'moedor', 3),
+(46, 6, 'de', 4),
+(47, 6, 'cafe', 3),
+(48, 6, 'manual', 3),
+(49, 6, 'laminas', 1),
+(50, 6, 'ceramica', 1),
+(51, 6, 'para', 1),
+(52, 6, 'uma', 1),
+(53, 6, 'moagem', 1),
+(54, 6, 'precisa', 1),
+(55, 7, 'prensa', 3),
+(56, 7, 'francesa', 3),
+(57, 7, '600ml', 3),
+(58, 7, 'vidro', 1),
+(59, 7, 'de', 1),
+(60, 7, 'borossilicato', 1),
+(61, 7, 'e', 1),
+(62, 7, 'estrutura', 1),
+(63, 7, 'aco', 1),
+(64, 7, 'inox', 1),
+(65, 8, 'bule', 3),
+(66, 8, 'termico', 3),
+(67, 8, '1l', 3),
+(68, 8, 'vermelho', 3),
+(69, 8, 'mantem', 1),
+(70, 8, 'a', 1),
+(71, 8, 'temperatura', 1),
+(72, 8, 'por', 1),
+(73, 8, 'ate', 1),
+(74, 8, '12', 1),
+(75, 8, 'horas', 1),
+(76, 9, 'xicara', 3),
+(77, 9, 'de', 3),
+(78, 9, 'porcelana', 3),
+(79, 9, 'branca', 3),
+(80, 9, 'design', 1),
+(81, 9, 'classico', 1),
+(82, 9, 'e', 1),
+(83, 9, 'elegante', 1),
+(84, 10, 'leiteira', 3),
+(85, 10, 'de', 4),
+(86, 10, 'aluminio', 3),
+(87, 10, '1', 3),
+(88, 10, '5l', 3),
+(89, 10, 'ferve', 1),
+(90, 10, 'o', 1),
+(91, 10, 'leite', 1),
+(92, 10, 'forma', 1),
+(93, 10, 'rapida', 1),
+(94, 10, 'e', 1),
+(95, 10, 'segura', 1);
+
+ALTER SEQUENCE product_search_terms_seq RESTART WITH 96;
+
+
+-- ================================================================= --
+-- CUPONS
+-- ================================================================= --
+
+-- Cupons de Porcentagem Válidos
+INSERT INTO coupons (code, type, coupon_value, one_shot, max_uses, uses_count, valid_from, valid_until, created_at, deleted_at) VALUES
+('promo10', 'PERCENT', 10, false, 100, 10, DATEADD('DAY', -1, NOW()), DATEADD('DAY', 30, NOW()), NOW(), NULL),
+('desconto25', 'PERCENT', 25, false, 50, 5, DATEADD('DAY', -10, NOW()), DATEADD('DAY', 20, NOW()), NOW(), NULL),
+('superoferta', 'PERCENT', 50, false, 20, 1, NOW(), DATEADD('DAY', 7, NOW()), NOW(), NULL),
+('relampago5', 'PERCENT', 5, false, NULL, 90, DATEADD('HOUR', -1, NOW()), DATEADD('HOUR', 1, NOW()), NOW(), NULL),
+
+-- Cupons de Valor Fixo Válidos
+('vale10', 'FIXED', 10.00, false, 200, 30, DATEADD('DAY', -15, NOW()), DATEADD('DAY', 15, NOW()), NOW(), NULL),
+('vale50', 'FIXED', 50.00, false, 25, 2, NOW(), DATEADD('DAY', 60, NOW()), NOW(), NULL),
+('descontao100', 'FIXED', 100.00, false, 10, 0, NOW(), DATEADD('DAY', 90, NOW()), NOW(), NULL),
+
+-- Cupons com Regras Especiais
+('primeiracompra', 'PERCENT', 15, true, NULL, 0, NOW(), DATEADD('YEAR', 1, NOW()), NOW(), NULL),
+('limite10', 'FIXED', 5.00, false, 10, 10, DATEADD('DAY', -5, NOW()), DATEADD('DAY', 5, NOW()), NOW(), NULL),
+('jaera', 'PERCENT', 20, false, 100, 50, DATEADD('DAY', -60, NOW()), DATEADD('DAY', -30, NOW()), NOW(), NULL),
+('embreve', 'PERCENT', 30, false, 100, 0, DATEADD('DAY', 10, NOW()), DATEADD('DAY', 40, NOW()), NOW(), NULL),
+('inativo', 'FIXED', 15.00, false, 50, 10, DATEADD('DAY', -1, NOW()), DATEADD('DAY', 30, NOW()), NOW(), NOW()),
+('oneshotusado', 'FIXED', 7.50, true, NULL, 1, DATEADD('DAY', -10, NOW()), DATEADD('DAY', 20, NOW()), NOW(), NULL),
+
+-- Cupons genéricos para teste de volume
+('teste01', 'PERCENT', 5, false, NULL, 0, NOW(), DATEADD('YEAR', 1, NOW()), NOW(), NULL),
+('teste02', 'FIXED', 2.50, false, 500, 0, NOW(), DATEADD('YEAR', 1, NOW()), NOW(), NULL);
+
+-- ================================================================= --
+-- Descontos diretos
+-- ================================================================= --
+
+INSERT INTO product_direct_discount_applications (discount_percentage, applied_at, product_id, removed_at) VALUES
+(25.00, NOW(), 5, NULL);
+
+
+UPDATE products p
+SET active_direct_discount_application_id = (SELECT a.id FROM product_direct_discount_applications a WHERE a.product_id = p.id AND a.removed_at IS NULL)
+WHERE p.active_discount_type = 'DIRECT';
@@ -0,0 +1,143 @@
+package br.com.lmuniz.desafio.senai.benchmarks;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
+import br.com.lmuniz.desafio.senai.serializers.PriceDeserializer;
+import br.com.lmuniz.desafio.senai.utils.PriceCalculator;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private String[] names;
+    private JsonNode[] priceNodes;
+    private long[] priceCents;
+    private Coupon[] coupons;
+    private long[] couponValues;
+    private List<ProductListingProjection> listingRows;
+    private Page<ProductDiscountDTO> listingPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        SeedData seed = SeedData.load();
+        List<Product> products = seed.products();
+        Map<Long, BigDecimal> directDiscounts = seed.directDiscounts();
+        coupons = seed.coupons().toArray(Coupon[]::new);
+
+        names = products.stream().map(Product::getName).toArray(String[]::new);
+        priceCents = products.stream().mapToLong(product -> PriceCalculator.toCents(product.getPrice())).toArray();
+        couponValues = new long[coupons.length];
+        for (int i = 0; i < coupons.length; i++) {
+            couponValues[i] = PriceCalculator.toCents(coupons[i].getValue());
+        }
+
+        priceNodes = new JsonNode[products.size() * 2];
+        for (int i = 0; i < products.size(); i++) {
+            BigDecimal price = products.get(i).getPrice();
+            priceNodes[2 * i] = DecimalNode.valueOf(price);
+            priceNodes[2 * i + 1] = TextNode.valueOf(price.toPlainString().replace('.', ','));
+        }
+
+        listingRows = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Product product = products.get(i % products.size());
+            Coupon coupon = coupons[i % coupons.length];
+            BigDecimal directDiscount = directDiscounts.get(product.getId());
+            boolean withCoupon = directDiscount == null && i % 3 == 0;
+            listingRows.add(new ProductListingProjection(
+                    product,
+                    withCoupon ? coupon.getType() : null,
+                    withCoupon ? coupon.getValue() : null,
+                    withCoupon ? product.getCreatedAt() : null,
+                    directDiscount,
+                    directDiscount != null ? product.getCreatedAt() : null
+            ));
+        }
+        listingPage = new PageImpl<>(listingRows.stream().map(ProductDiscountDTO::new).toList(), PageRequest.of(0, PAGE_SIZE), 1_000);
+    }
+
+    @Benchmark
+    public void normalizeName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(Utils.normalizeName(name));
+        }
+    }
+
+    @Benchmark
+    public void priceDeserializer(Blackhole blackhole) throws IOException {
+        for (JsonNode priceNode : priceNodes) {
+            blackhole.consume(PriceDeserializer.fromNode(priceNode));
+        }
+    }
+
+    @Benchmark
+    public void couponFinalPrice(Blackhole blackhole) {
+        for (long price : priceCents) {
+            for (int i = 0; i < coupons.length; i++) {
+                blackhole.consume(PriceCalculator.applyCoupon(price, coupons[i].getType(), couponValues[i]));
+            }
+        }
+    }
+
+    @Benchmark
+    public void productDiscountDtoPage(Blackhole blackhole) {
+        for (ProductListingProjection row : listingRows) {
+            blackhole.consume(new ProductDiscountDTO(row));
+        }
+    }
+
+    @Benchmark
+    public byte[] listingPageSerialization() throws IOException {
+        return objectMapper.writeValueAsBytes(listingPage);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CatalogBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
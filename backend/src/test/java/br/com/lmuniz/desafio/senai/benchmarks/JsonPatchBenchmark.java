@@ -0,0 +1,99 @@
+package br.com.lmuniz.desafio.senai.benchmarks;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.services.patches.JsonPatchApplier;
+import br.com.lmuniz.desafio.senai.services.patches.PatchAppliers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.fge.jsonpatch.JsonPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPatchBenchmark {
+
+    private ObjectMapper objectMapper;
+    private JsonPatchApplier<ProductDTO> productPatchApplier;
+    private JsonPatchApplier<Coupon> couponPatchApplier;
+    private ProductDTO product;
+    private Coupon coupon;
+    private JsonNode productPatch;
+    private JsonNode couponPatch;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        productPatchApplier = PatchAppliers.product(objectMapper);
+        couponPatchApplier = PatchAppliers.coupon(objectMapper);
+
+        SeedData seed = SeedData.load();
+        product = seed.products().stream()
+                .filter(candidate -> seed.directDiscounts().containsKey(candidate.getId()))
+                .findFirst()
+                .map(ProductDTO::new)
+                .orElseThrow();
+        coupon = seed.coupons().get(0);
+
+        productPatch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/price", "value": "139,90"},
+                  {"op": "replace", "path": "/stock", "value": 25}
+                ]
+                """);
+        couponPatch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/value", "value": 15},
+                  {"op": "replace", "path": "/validUntil", "value": "2030-01-01T00:00:00Z"}
+                ]
+                """);
+    }
+
+    @Benchmark
+    public ProductDTO productTreeRoundTrip() throws Exception {
+        return objectMapper.treeToValue(JsonPatch.fromJson(productPatch).apply(objectMapper.valueToTree(product)), ProductDTO.class);
+    }
+
+    @Benchmark
+    public ProductDTO productCompiled() throws Exception {
+        return productPatchApplier.apply(productPatch, product).orElseThrow();
+    }
+
+    @Benchmark
+    public Coupon couponTreeRoundTrip() throws Exception {
+        return objectMapper.treeToValue(JsonPatch.fromJson(couponPatch).apply(objectMapper.valueToTree(coupon)), Coupon.class);
+    }
+
+    @Benchmark
+    public Coupon couponCompiled() throws Exception {
+        return couponPatchApplier.apply(couponPatch, PatchAppliers.copyOf(coupon)).orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonPatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
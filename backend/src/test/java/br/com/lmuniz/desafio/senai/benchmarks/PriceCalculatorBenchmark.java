@@ -0,0 +1,99 @@
+package br.com.lmuniz.desafio.senai.benchmarks;
+
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.utils.PriceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private BigDecimal[] prices;
+    private BigDecimal[] percentages;
+    private CouponEnum[] couponTypes;
+    private long[] priceCents;
+    private long[] percentageBasisPoints;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[pageSize];
+        percentages = new BigDecimal[pageSize];
+        couponTypes = new CouponEnum[pageSize];
+        priceCents = new long[pageSize];
+        percentageBasisPoints = new long[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            prices[i] = BigDecimal.valueOf(100 + random.nextInt(1_000_000), 2);
+            percentages[i] = BigDecimal.valueOf(1 + random.nextInt(80));
+            couponTypes[i] = random.nextBoolean() ? CouponEnum.PERCENT : CouponEnum.FIXED;
+            priceCents[i] = PriceCalculator.toCents(prices[i]);
+            percentageBasisPoints[i] = PriceCalculator.toBasisPoints(percentages[i]);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalDirectDiscount(Blackhole blackhole) {
+        for (int i = 0; i < pageSize; i++) {
+            BigDecimal discountFactor = BigDecimal.ONE.subtract(percentages[i].divide(BigDecimal.valueOf(100)));
+            blackhole.consume(prices[i].multiply(discountFactor).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalCoupon(Blackhole blackhole) {
+        for (int i = 0; i < pageSize; i++) {
+            if (couponTypes[i] == CouponEnum.PERCENT) {
+                BigDecimal discountFactor = BigDecimal.ONE.subtract(percentages[i].divide(BigDecimal.valueOf(100)));
+                blackhole.consume(prices[i].multiply(discountFactor).setScale(2, RoundingMode.HALF_UP));
+            } else {
+                blackhole.consume(prices[i].subtract(percentages[i]));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fixedPointDirectDiscount(Blackhole blackhole) {
+        for (int i = 0; i < pageSize; i++) {
+            blackhole.consume(PriceCalculator.applyPercent(priceCents[i], percentageBasisPoints[i]));
+        }
+    }
+
+    @Benchmark
+    public void fixedPointCoupon(Blackhole blackhole) {
+        for (int i = 0; i < pageSize; i++) {
+            blackhole.consume(PriceCalculator.applyCoupon(priceCents[i], couponTypes[i], percentageBasisPoints[i]));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PriceCalculatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
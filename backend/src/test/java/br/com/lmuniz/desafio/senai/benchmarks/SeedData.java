@@ -0,0 +1,204 @@
+package br.com.lmuniz.desafio.senai.benchmarks;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class SeedData {
+
+    private static final Pattern INSERT = Pattern.compile("^INSERT INTO (\\w+) \\(([^)]*)\\) VALUES");
+    private static final Pattern DATEADD = Pattern.compile("DATEADD\\('(\\w+)', (-?\\d+), NOW\\(\\)\\)");
+
+    private final Instant now;
+    private final Map<String, List<Map<String, String>>> rowsByTable;
+
+    private SeedData(Instant now, Map<String, List<Map<String, String>>> rowsByTable) {
+        this.now = now;
+        this.rowsByTable = rowsByTable;
+    }
+
+    static SeedData load() {
+        try (InputStream inputStream = SeedData.class.getResourceAsStream("/db/seed/R__seed_data.sql")) {
+            if (inputStream == null) {
+                throw new IllegalStateException("db/seed/R__seed_data.sql not found on the classpath");
+            }
+            return new SeedData(Instant.now().truncatedTo(ChronoUnit.SECONDS), parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    List<Product> products() {
+        List<Product> products = new ArrayList<>();
+        for (Map<String, String> row : rows("products")) {
+            Product product = new Product(
+                    row.get("name"),
+                    row.get("normalized_name"),
+                    row.get("description"),
+                    new BigDecimal(row.get("price")),
+                    Integer.valueOf(row.get("stock"))
+            );
+            product.setId(Long.valueOf(row.get("id")));
+            product.setFinalPrice(new BigDecimal(row.get("final_price")));
+            product.setActiveDiscountType(ActiveDiscountEnum.valueOf(row.get("active_discount_type")));
+            product.setCreatedAt(instant(row.get("created_at")));
+            product.setUpdatedAt(instant(row.get("updated_at")));
+            product.setDeletedAt(instant(row.get("deleted_at")));
+            products.add(product);
+        }
+        return products;
+    }
+
+    Map<Long, BigDecimal> directDiscounts() {
+        Map<Long, BigDecimal> directDiscounts = new HashMap<>();
+        for (Map<String, String> row : rows("product_direct_discount_applications")) {
+            if (row.get("removed_at") == null) {
+                directDiscounts.put(Long.valueOf(row.get("product_id")), new BigDecimal(row.get("discount_percentage")));
+            }
+        }
+        return directDiscounts;
+    }
+
+    List<Coupon> coupons() {
+        List<Coupon> coupons = new ArrayList<>();
+        long id = 1;
+        for (Map<String, String> row : rows("coupons")) {
+            Coupon coupon = new Coupon(
+                    row.get("code"),
+                    CouponEnum.fromString(row.get("type")),
+                    new BigDecimal(row.get("coupon_value")),
+                    Boolean.parseBoolean(row.get("one_shot")),
+                    row.get("max_uses") == null ? null : Integer.valueOf(row.get("max_uses")),
+                    instant(row.get("valid_from")),
+                    instant(row.get("valid_until"))
+            );
+            coupon.setId(id++);
+            coupon.setUsesCount(Integer.valueOf(row.get("uses_count")));
+            coupon.setCreatedAt(instant(row.get("created_at")));
+            coupon.setDeletedAt(instant(row.get("deleted_at")));
+            coupons.add(coupon);
+        }
+        return coupons;
+    }
+
+    private List<Map<String, String>> rows(String table) {
+        return rowsByTable.getOrDefault(table, List.of());
+    }
+
+    private Instant instant(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.equals("NOW()")) {
+            return now;
+        }
+        Matcher matcher = DATEADD.matcher(value);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unsupported date expression in the seed script: " + value);
+        }
+        ChronoUnit unit = ChronoUnit.valueOf(matcher.group(1) + "S");
+        return now.atZone(ZoneOffset.UTC).plus(Long.parseLong(matcher.group(2)), unit).toInstant();
+    }
+
+    private static Map<String, List<Map<String, String>>> parse(String script) {
+        Map<String, List<Map<String, String>>> rowsByTable = new LinkedHashMap<>();
+        String table = null;
+        String[] columns = null;
+
+        for (String rawLine : script.split("\n")) {
+            String line = rawLine.strip();
+            Matcher insert = INSERT.matcher(line);
+            if (insert.find()) {
+                table = insert.group(1);
+                columns = insert.group(2).split(",\\s*");
+                rowsByTable.putIfAbsent(table, new ArrayList<>());
+                continue;
+            }
+            if (table == null || !line.startsWith("(")) {
+                if (!line.isEmpty() && !line.startsWith("--")) {
+                    table = null;
+                }
+                continue;
+            }
+
+            List<String> values = splitTuple(line);
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                row.put(columns[i], values.get(i));
+            }
+            rowsByTable.get(table).add(row);
+        }
+        return rowsByTable;
+    }
+
+    private static List<String> splitTuple(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int depth = 0;
+
+        for (int i = line.indexOf('(') + 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '\'' && i + 1 < line.length() && line.charAt(i + 1) == '\'') {
+                    value.append('\'');
+                    i++;
+                } else if (c == '\'') {
+                    quoted = false;
+                    if (depth > 0) {
+                        value.append(c);
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '\'') {
+                quoted = true;
+                if (depth > 0) {
+                    value.append(c);
+                } else {
+                    wasQuoted = true;
+                    value.setLength(0);
+                }
+            } else if (c == '(') {
+                depth++;
+                value.append(c);
+            } else if (c == ')' && depth == 0) {
+                values.add(toValue(value, wasQuoted));
+                break;
+            } else if (c == ')') {
+                depth--;
+                value.append(c);
+            } else if (c == ',' && depth == 0) {
+                values.add(toValue(value, wasQuoted));
+                value.setLength(0);
+                wasQuoted = false;
+            } else {
+                value.append(c);
+            }
+        }
+        return values;
+    }
+
+    private static String toValue(StringBuilder value, boolean wasQuoted) {
+        String text = wasQuoted ? value.toString() : value.toString().strip();
+        return !wasQuoted && text.equalsIgnoreCase("NULL") ? null : text;
+    }
+}
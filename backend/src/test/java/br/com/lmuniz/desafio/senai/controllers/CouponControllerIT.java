@@ -1,11 +1,14 @@
 package br.com.lmuniz.desafio.senai.controllers;
 
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
 import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
 import br.com.lmuniz.desafio.senai.tests.CouponFactory;
+import br.com.lmuniz.desafio.senai.tests.StatementBudget;
 import br.com.lmuniz.desafio.senai.utils.Utils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
+@StatementBudget(7)
 public class CouponControllerIT {
 
     @Autowired
@@ -33,6 +37,9 @@ public class CouponControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Long existingId;
     private Long nonExistingId;
     private Coupon coupon;
@@ -119,6 +126,7 @@ public class CouponControllerIT {
     }
 
     @Test
+    @StatementBudget(1)
     void getAllCoupons_ShouldReturnOk_WhenNotOnlyValid() throws Exception {
         ResultActions result = mockMvc.perform(get("/api/v1/coupons")
                 .accept(MediaType.APPLICATION_JSON));
@@ -145,6 +153,7 @@ public class CouponControllerIT {
     }
 
     @Test
+    @StatementBudget(1)
     void getCouponById_ShouldReturnOk_WhenCouponExists() throws Exception {
         ResultActions result = mockMvc.perform(get("/api/v1/coupons/{id}", existingId)
                 .accept(MediaType.APPLICATION_JSON));
@@ -156,6 +165,40 @@ public class CouponControllerIT {
     }
 
 
+    @Test
+    void getCouponById_ShouldReturnNotModified_UntilUsesCountChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/coupons/{id}", existingId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/coupons/{code}/apply", "PROMO10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productIds": [1] }
+                                """))
+                .andExpect(status().isOk());
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingId).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usesCount").value(11));
+    }
+
+    @Test
+    void partialUpdateCoupon_ShouldReturnPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+        mockMvc.perform(patch("/api/v1/coupons/{id}", existingId)
+                        .header("If-Match", "\"99.0\"")
+                        .contentType("application/json-patch+json")
+                        .content("""
+                                [ { "op": "replace", "path": "/maxUses", "value": 500 } ]
+                                """))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Coupon with ID %d has been modified. Current ETag is \"0.10\".".formatted(existingId)));
+    }
+
     @Test
     void getCouponById_ShouldReturnNotFound_WhenCouponDoesNotExists() throws Exception {
         ResultActions result = mockMvc.perform(get("/api/v1/coupons/{id}", nonExistingId)
@@ -248,4 +291,102 @@ public class CouponControllerIT {
         result.andExpect(jsonPath("$.type").value(type));
         result.andExpect(jsonPath("$.value").value(price));
     }
+
+    @Test
+    void partialUpdateCoupon_ShouldResetProductFinalPrice_WhenValueChanges() throws Exception {
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", 1L)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO("PROMO10")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finalPrice").value(179.91));
+
+        mockMvc.perform(patch("/api/v1/coupons/{id}", existingId)
+                        .content("""
+                        [{ "op": "replace", "path": "/value", "value": 20 }]
+                        """)
+                        .contentType("application/json-patch+json"))
+                .andExpect(status().isOk());
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/products?withCouponApplied=true"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/api/v1/products?minPrice=199.90&maxPrice=199.90"))
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].finalPrice").value(199.90));
+    }
+
+    @Test
+    void applyCouponToProducts_ShouldApplyAndReportEveryProduct_WhenCouponIsValid() throws Exception {
+        ResultActions result = mockMvc.perform(post("/api/v1/coupons/{code}/apply", "PROMO10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        { "productIds": [1, 2, 5, 9, 999] }
+                        """));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.requested").value(5));
+        result.andExpect(jsonPath("$.applied").value(2));
+        result.andExpect(jsonPath("$.skipped").value(3));
+        result.andExpect(jsonPath("$.items[0].status").value("APPLIED"));
+        result.andExpect(jsonPath("$.items[0].finalPrice").value(179.91));
+        result.andExpect(jsonPath("$.items[1].status").value("APPLIED"));
+        result.andExpect(jsonPath("$.items[1].finalPrice").value(4.95));
+        result.andExpect(jsonPath("$.items[2].status").value("DIRECT_APPLIED"));
+        result.andExpect(jsonPath("$.items[3].status").value("DELETED"));
+        result.andExpect(jsonPath("$.items[4].status").value("NOT_FOUND"));
+
+        entityManager.clear();
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingId))
+                .andExpect(jsonPath("$.usesCount").value(12));
+        mockMvc.perform(get("/api/v1/products?withCouponApplied=true&sort=id"))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].finalPrice").value(179.91));
+    }
+
+    @Test
+    @StatementBudget(8)
+    void applyCouponToProducts_ShouldApplyOneShotCouponOnce_WhenManyProductsAreGiven() throws Exception {
+        ResultActions result = mockMvc.perform(post("/api/v1/coupons/{code}/apply", existingCouponCode)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        { "productIds": [1, 2, 3] }
+                        """));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.applied").value(1));
+        result.andExpect(jsonPath("$.items[0].status").value("APPLIED"));
+        result.andExpect(jsonPath("$.items[1].status").value("USAGE_LIMIT_REACHED"));
+        result.andExpect(jsonPath("$.items[2].status").value("USAGE_LIMIT_REACHED"));
+    }
+
+    @Test
+    void applyCouponToProducts_ShouldReturnNotFound_WhenCouponDoesNotExist() throws Exception {
+        mockMvc.perform(post("/api/v1/coupons/{code}/apply", "NAOEXISTE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productIds": [1] }
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void applyCouponToProducts_ShouldReturnBadRequest_WhenCouponIsExpired() throws Exception {
+        mockMvc.perform(post("/api/v1/coupons/{code}/apply", "JAERA")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productIds": [1] }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Coupon is not valid for the current date."));
+    }
+
+    @Test
+    void applyCouponToProducts_ShouldReturnBadRequest_WhenProductIdsAreEmpty() throws Exception {
+        mockMvc.perform(post("/api/v1/coupons/{code}/apply", "PROMO10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productIds": [] }
+                                """))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,196 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.controllers.filters.IdempotencyFilter;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductCouponApplicationRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupon-redemption;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=24",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+public class CouponRedemptionConcurrencyIT {
+
+    private static final int THREADS = 48;
+    private static final int MAX_USES = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCouponApplicationRepository productCouponApplicationRepository;
+
+    private ExecutorService executor;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        productIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String name = "Produto concorrencia " + System.nanoTime() + " " + i;
+            Product product = new Product(name, Utils.normalizeName(name), null, BigDecimal.valueOf(100), 10);
+            productIds.add(productRepository.save(product).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should never redeem a coupon beyond maxUses under concurrent requests")
+    void applyCouponDiscount_ShouldRespectMaxUses_WhenRedeemedConcurrently() throws Exception {
+        Coupon coupon = createCoupon("stressmax", false, MAX_USES);
+
+        Map<Integer, Long> statuses = runConcurrently(productId -> applyCoupon(productId, coupon.getCode()));
+
+        assertEquals(MAX_USES, statuses.getOrDefault(200, 0L));
+        assertEquals(THREADS - MAX_USES, statuses.getOrDefault(400, 0L));
+        assertEquals(MAX_USES, couponRepository.findById(coupon.getId()).orElseThrow().getUsesCount());
+        assertEquals(MAX_USES, productCouponApplicationRepository.findAllByCouponIdAndRemovedAtIsNull(coupon.getId()).size());
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should redeem a one-shot coupon exactly once under concurrent requests")
+    void applyCouponDiscount_ShouldRedeemOneShotOnce_WhenRedeemedConcurrently() throws Exception {
+        Coupon coupon = createCoupon("stressoneshot", true, null);
+
+        Map<Integer, Long> statuses = runConcurrently(productId -> applyCoupon(productId, coupon.getCode()));
+
+        assertEquals(1, statuses.getOrDefault(200, 0L));
+        assertEquals(THREADS - 1, statuses.getOrDefault(409, 0L));
+        assertEquals(1, couponRepository.findById(coupon.getId()).orElseThrow().getUsesCount());
+        assertEquals(1, productCouponApplicationRepository.findAllByCouponIdAndRemovedAtIsNull(coupon.getId()).size());
+    }
+
+    @Test
+    @DisplayName("removeDiscount should release every redemption under concurrent requests")
+    void removeDiscount_ShouldReleaseEveryRedemption_WhenRemovedConcurrently() throws Exception {
+        Coupon coupon = createCoupon("stressremove", false, null);
+        for (Long productId : productIds) {
+            assertEquals(200, mockMvc.perform(applyCoupon(productId, coupon.getCode())).andReturn().getResponse().getStatus());
+        }
+        assertEquals(THREADS, couponRepository.findById(coupon.getId()).orElseThrow().getUsesCount());
+
+        Map<Integer, Long> statuses = runConcurrently(productId -> delete("/api/v1/products/%d/discount".formatted(productId)));
+
+        assertEquals(THREADS, statuses.getOrDefault(204, 0L));
+        assertEquals(0, couponRepository.findById(coupon.getId()).orElseThrow().getUsesCount());
+        assertTrue(productCouponApplicationRepository.findAllByCouponIdAndRemovedAtIsNull(coupon.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should redeem once and replay the response when concurrent retries share an Idempotency-Key")
+    void applyCouponDiscount_ShouldRedeemOnce_WhenConcurrentRetriesShareIdempotencyKey() throws Exception {
+        Coupon coupon = createCoupon("stressretry", false, null);
+        Long productId = productIds.get(0);
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        Map<Integer, Long> statuses = runConcurrently(ignored -> applyCoupon(productId, coupon.getCode())
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey));
+
+        assertEquals(THREADS, statuses.getOrDefault(200, 0L));
+        assertEquals(1, couponRepository.findById(coupon.getId()).orElseThrow().getUsesCount());
+        assertEquals(1, productCouponApplicationRepository.findAllByCouponIdAndRemovedAtIsNull(coupon.getId()).size());
+    }
+
+    private Coupon createCoupon(String code, boolean oneShot, Integer maxUses) {
+        Coupon coupon = new Coupon(
+                code,
+                CouponEnum.PERCENT,
+                BigDecimal.TEN,
+                oneShot,
+                maxUses,
+                Instant.now().minus(1, ChronoUnit.DAYS),
+                Instant.now().plus(1, ChronoUnit.DAYS)
+        );
+        return couponRepository.save(coupon);
+    }
+
+    private MockHttpServletRequestBuilder applyCoupon(Long productId, String code) {
+        try {
+            return post("/api/v1/products/%d/discount/coupon".formatted(productId))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new CouponCodeDTO(code)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<Integer, Long> runConcurrently(Function<Long, RequestBuilder> requestFactory) throws Exception {
+        CountDownLatch ready = new CountDownLatch(productIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            RequestBuilder request = requestFactory.apply(productId);
+            Callable<Integer> task = () -> {
+                ready.countDown();
+                start.await();
+                return mockMvc.perform(request).andReturn().getResponse().getStatus();
+            };
+            futures.add(executor.submit(task));
+        }
+
+        assertTrue(ready.await(10, TimeUnit.SECONDS));
+        start.countDown();
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return statuses.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
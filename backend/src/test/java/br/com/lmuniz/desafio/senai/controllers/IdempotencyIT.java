@@ -0,0 +1,128 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.controllers.filters.IdempotencyFilter;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
+import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class IdempotencyIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private Long existingId;
+    private Long discountedProductId;
+    private Long existingCouponId;
+    private String existingCouponCode;
+
+    @BeforeEach
+    void setUp() {
+        existingId = 1L;
+        discountedProductId = 5L;
+        existingCouponId = 1L;
+        existingCouponCode = "promo10";
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should replay the stored response and redeem once when retried with the same Idempotency-Key")
+    void applyCouponDiscount_ShouldReplayResponse_WhenRetriedWithSameIdempotencyKey() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        int usesCount = couponRepository.findUsesCountById(existingCouponId);
+
+        MvcResult first = mockMvc.perform(applyCoupon(existingId, idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED))
+                .andReturn();
+        MvcResult retry = mockMvc.perform(applyCoupon(existingId, idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertEquals(usesCount + 1, couponRepository.findUsesCountById(existingCouponId));
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should run again when retried with a different Idempotency-Key")
+    void applyCouponDiscount_ShouldReturnConflict_WhenRetriedWithDifferentIdempotencyKey() throws Exception {
+        mockMvc.perform(applyCoupon(existingId, UUID.randomUUID().toString())).andExpect(status().isOk());
+
+        mockMvc.perform(applyCoupon(existingId, UUID.randomUUID().toString()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Coupon is already applied to this product."));
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should return 422 Unprocessable Entity when the Idempotency-Key is reused with a different body")
+    void applyCouponDiscount_ShouldReturnUnprocessableEntity_WhenIdempotencyKeyIsReusedWithDifferentBody() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        mockMvc.perform(applyCoupon(existingId, idempotencyKey)).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", existingId)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO("desconto25"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED))
+                .andExpect(jsonPath("$.error").value("Idempotency key mismatch"));
+    }
+
+    @Test
+    @DisplayName("removeDiscount should replay 204 No Content when retried with the same Idempotency-Key")
+    void removeDiscount_ShouldReplayNoContent_WhenRetriedWithSameIdempotencyKey() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(delete("/api/v1/products/{id}/discount", discountedProductId)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/products/{id}/discount", discountedProductId)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"));
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should return 400 Bad Request when the Idempotency-Key is blank")
+    void applyCouponDiscount_ShouldReturnBadRequest_WhenIdempotencyKeyIsBlank() throws Exception {
+        mockMvc.perform(applyCoupon(existingId, " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid idempotency key"));
+    }
+
+    private MockHttpServletRequestBuilder applyCoupon(Long productId, String idempotencyKey) throws Exception {
+        return post("/api/v1/products/{id}/discount/coupon", productId)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CouponCodeDTO(existingCouponCode)));
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long existingId;
+    private Long existingCouponId;
+
+    @BeforeEach
+    void setUp() {
+        existingId = 1L;
+        existingCouponId = 1L;
+    }
+
+    @Test
+    @DisplayName("prometheus endpoint should expose per-route latency histograms for product and coupon routes")
+    void prometheus_ShouldExposeRouteHistograms_WhenRoutesWereCalled() throws Exception {
+        mockMvc.perform(get("/api/v1/products/{id}", existingId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingCouponId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/v1/products/\\{id}\".*")))
+                .andExpect(content().string(matchesPattern("(?s).*http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/v1/coupons/\\{id}\".*")));
+    }
+
+    @Test
+    @DisplayName("prometheus endpoint should expose repository timings and hikari pool saturation")
+    void prometheus_ShouldExposeRepositoryAndPoolMetrics_WhenQueriesWereExecuted() throws Exception {
+        mockMvc.perform(get("/api/v1/coupons")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*spring_data_repository_invocations_seconds_bucket\\{[^}]*repository=\"CouponRepository\".*")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending{")))
+                .andExpect(content().string(containsString("hikaricp_connections_max{")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{")));
+    }
+
+    @Test
+    @DisplayName("prometheus endpoint should count coupon rejections by reason")
+    void prometheus_ShouldCountCouponRejection_WhenCouponDoesNotExist() throws Exception {
+        String body = objectMapper.writeValueAsString(new CouponCodeDTO("inexistente"));
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", existingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*coupon_rejections_total\\{[^}]*reason=\"not_found\"} [1-9].*")))
+                .andExpect(content().string(containsString("coupon_redemptions_total{")))
+                .andExpect(content().string(containsString("coupon_discounts_removed_total{")));
+    }
+}
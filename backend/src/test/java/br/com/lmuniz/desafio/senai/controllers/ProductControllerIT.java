@@ -4,8 +4,13 @@ import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DirectPercentageDiscountDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.metrics.StatementCounter;
 import br.com.lmuniz.desafio.senai.tests.ProductFactory;
+import br.com.lmuniz.desafio.senai.tests.StatementBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,18 +19,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
+@StatementBudget(8)
 public class ProductControllerIT {
 
     @Autowired
@@ -34,6 +51,12 @@ public class ProductControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
     private Product product;
     private String existingName;
     private Long existingId;
@@ -41,6 +64,8 @@ public class ProductControllerIT {
     private Long deletedProductId;
     private Long cheapProductId;
     private Long alreadyDiscountedProductId;
+    private List<StatementCounter.RequestStatements> requestStatements;
+    private Runnable removeStatementListener;
 
     @BeforeEach
     void setUp(){
@@ -51,6 +76,13 @@ public class ProductControllerIT {
         deletedProductId = 9L;
         cheapProductId = 4L;
         alreadyDiscountedProductId = 5L;
+        requestStatements = new ArrayList<>();
+        removeStatementListener = statementCounter.addListener(requestStatements::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        removeStatementListener.run();
     }
 
     @Test
@@ -163,6 +195,7 @@ public class ProductControllerIT {
 
     @Test
     @DisplayName("getProductById should return 200 OK with product details when ID exists")
+    @StatementBudget(1)
     void getProductById_ShouldReturnOk_WhenProductExists() throws Exception {
         ResultActions result = mockMvc.perform(get("/api/v1/products/%d".formatted(existingId))
                 .contentType("application/json"));
@@ -174,6 +207,77 @@ public class ProductControllerIT {
         result.andExpect(jsonPath("$.price").exists());
     }
 
+    @Test
+    @DisplayName("getProductById should return 304 Not Modified when If-None-Match carries the current ETag")
+    void getProductById_ShouldReturnNotModified_WhenIfNoneMatchIsCurrent() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/products/{id}", existingId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/products/{id}", existingId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("partialUpdateProduct should return 412 Precondition Failed when If-Match carries a stale ETag")
+    void partialUpdateProduct_ShouldReturnPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+        mockMvc.perform(patch("/api/v1/products/{id}", existingId)
+                        .header("If-Match", "\"99\"")
+                        .contentType("application/json-patch+json")
+                        .content("""
+                                [ { "op": "replace", "path": "/stock", "value": 7 } ]
+                                """))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition failed exception"));
+    }
+
+    @Test
+    @DisplayName("partialUpdateProduct should return a new ETag when If-Match carries the current ETag")
+    void partialUpdateProduct_ShouldReturnNewETag_WhenIfMatchIsCurrent() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/products/{id}", existingId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String updatedETag = mockMvc.perform(patch("/api/v1/products/{id}", existingId)
+                        .header("If-Match", eTag)
+                        .contentType("application/json-patch+json")
+                        .content("""
+                                [ { "op": "replace", "path": "/stock", "value": 7 } ]
+                                """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotEquals(eTag, updatedETag);
+        mockMvc.perform(delete("/api/v1/products/{id}", existingId).header("If-Match", eTag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/products/{id}", existingId).header("If-Match", updatedETag))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("getAllProducts should return 304 Not Modified until the catalog changes")
+    void getAllProducts_ShouldReturnNotModified_UntilCatalogChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/products?size=5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/products?size=5").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/products/{id}/discount/percent", existingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "percentage": 10 }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/products?size=5").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
     @Test
     @DisplayName("getProductById should return 404 Not Found for a non-existent ID")
     void getProductById_ShouldReturnNotFound_WhenProductDoesNotExist() throws Exception {
@@ -335,6 +439,7 @@ public class ProductControllerIT {
 
     @Test
     @DisplayName("getAllProducts should return default page when no params are given")
+    @StatementBudget(2)
     void getAllProducts_shouldReturnDefaultPage_whenNoParams() throws Exception {
         ResultActions result = mockMvc.perform(get("/api/v1/products")
                 .accept(MediaType.APPLICATION_JSON));
@@ -356,6 +461,160 @@ public class ProductControllerIT {
         result.andExpect(jsonPath("$.totalElements").value(3));
     }
 
+    @Test
+    @DisplayName("getAllProducts should filter and sort by final price when price params are used")
+    void getAllProducts_shouldFilterAndSortByFinalPrice_whenPriceParamsAreUsed() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?minPrice=100&maxPrice=120&sort=finalPrice,asc")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(2));
+        result.andExpect(jsonPath("$.content[0].finalPrice").value(110.00));
+        result.andExpect(jsonPath("$.content[1].id").value(alreadyDiscountedProductId));
+        result.andExpect(jsonPath("$.content[1].finalPrice").value(112.49));
+    }
+
+    @Test
+    @DisplayName("getAllProducts should reflect coupon discount in final price filter after coupon is applied")
+    void getAllProducts_shouldReflectCouponInFinalPriceFilter_whenCouponIsApplied() throws Exception {
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", existingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO("PROMO10"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/products?minPrice=179&maxPrice=180"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(existingId))
+                .andExpect(jsonPath("$.content[0].finalPrice").value(179.91));
+
+        mockMvc.perform(delete("/api/v1/products/{id}/discount", existingId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/products?minPrice=179&maxPrice=180"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("getAllProducts should run one listing query and one count query per page")
+    void getAllProducts_shouldRunListingAndCountQueriesOnly_whenPageIsNotLast() throws Exception {
+        mockMvc.perform(get("/api/v1/products?size=3&sort=price,asc")).andExpect(status().isOk());
+
+        assertEquals(2, requestStatements.get(0).statements());
+    }
+
+    @Test
+    @DisplayName("getAllProducts should skip the count query when the whole result fits in the page")
+    void getAllProducts_shouldRunListingQueryOnly_whenResultFitsInPage() throws Exception {
+        mockMvc.perform(get("/api/v1/products?size=20")).andExpect(status().isOk());
+
+        assertEquals(1, requestStatements.get(0).statements());
+    }
+
+    @Test
+    @DisplayName("getAllProducts should read coupon and direct discounts in the listing query")
+    @StatementBudget(3)
+    void getAllProducts_shouldReadDiscountsInListingQuery_whenProductsHaveDiscounts() throws Exception {
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", existingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO("PROMO10"))))
+                .andExpect(status().isOk());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/products?hasDiscount=true&size=20")).andExpect(status().isOk());
+
+        assertEquals(1, requestStatements.get(requestStatements.size() - 1).statements());
+        mockMvc.perform(get("/api/v1/products?hasDiscount=true&size=20&sort=id,asc"))
+                .andExpect(jsonPath("$.content[0].id").value(existingId))
+                .andExpect(jsonPath("$.content[0].hasCouponApplied").value(true))
+                .andExpect(jsonPath("$.content[0].discount.value").value(10))
+                .andExpect(jsonPath("$.content[1].id").value(alreadyDiscountedProductId))
+                .andExpect(jsonPath("$.content[1].discount.value").value(25));
+    }
+
+    @Test
+    @DisplayName("getAllProducts with cursor should run a single query per page")
+    void getAllProducts_shouldRunSingleQuery_whenCursorIsUsed() throws Exception {
+        mockMvc.perform(get("/api/v1/products?after=&size=3&sort=price,asc")).andExpect(status().isOk());
+
+        assertEquals(1, requestStatements.get(0).statements());
+    }
+
+    @Test
+    @DisplayName("getAllProducts should rank products by search relevance when search param is used without sort")
+    void getAllProducts_shouldRankByRelevance_whenSearchParamIsUsedWithoutSort() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?search=moedor")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(2));
+        result.andExpect(jsonPath("$.content[0].name").value("Moedor de Café Manual"));
+        result.andExpect(jsonPath("$.content[1].name").value("Máquina de Espresso Profissional"));
+    }
+
+    @Test
+    @DisplayName("getAllProducts should match accentless search against accented description")
+    void getAllProducts_shouldMatchAccentedDescription_whenSearchHasNoAccent() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?search=xicaras")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(1));
+        result.andExpect(jsonPath("$.content[0].id").value(existingId));
+    }
+
+    @Test
+    @DisplayName("getAllProducts should require every search term to match")
+    void getAllProducts_shouldRequireEveryTerm_whenSearchHasManyTerms() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?search=Café Manual")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(1));
+        result.andExpect(jsonPath("$.content[0].name").value("Moedor de Café Manual"));
+    }
+
+    @Test
+    @DisplayName("createProduct should index and find description words longer than the search term column")
+    void createProduct_shouldMatchSearch_whenDescriptionHasWordLongerThanTermColumn() throws Exception {
+        String longWord = "a".repeat(150);
+        product.setName("Produto palavra longa");
+        product.setDescription("Descrição " + longWord);
+        ProductDTO productDTO = new ProductDTO(product);
+
+        Integer id = JsonPath.read(mockMvc.perform(post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDTO)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(get("/api/v1/products?search=" + longWord))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(id));
+    }
+
+    @Test
+    @DisplayName("partialUpdateProduct should reindex search terms when name changes")
+    void partialUpdateProduct_shouldReindexSearchTerms_whenNameChanges() throws Exception {
+        String patchJson = """
+        [
+            { "op": "replace", "path": "/name", "value": "Filtro Especial 102" }
+        ]
+    """;
+
+        mockMvc.perform(patch("/api/v1/products/{id}", 2L)
+                        .contentType("application/json-patch+json")
+                        .content(patchJson))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/products?search=especial"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(2));
+        mockMvc.perform(get("/api/v1/products?search=melitta"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
     @Test
     @DisplayName("getAllProducts should return only discounted products when hasDiscount is true")
     void getAllProducts_shouldReturnOnlyDiscountedProducts_whenHasDiscountIsTrue() throws Exception {
@@ -367,6 +626,84 @@ public class ProductControllerIT {
         result.andExpect(jsonPath("$.content[0].discount").exists());
     }
 
+    @Test
+    @DisplayName("getAllProducts should count only discounted products when hasDiscount is true")
+    void getAllProducts_shouldCountOnlyDiscountedProducts_whenHasDiscountIsTrue() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?hasDiscount=true&size=1")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(1));
+        result.andExpect(jsonPath("$.content[0].id").value(alreadyDiscountedProductId));
+    }
+
+    @Test
+    @DisplayName("getAllProducts should return full pages of products without discount when hasDiscount is false")
+    void getAllProducts_shouldReturnFullPages_whenHasDiscountIsFalse() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?hasDiscount=false&size=5")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(8));
+        result.andExpect(jsonPath("$.numberOfElements").value(5));
+        result.andExpect(jsonPath("$.content[?(@.discount != null)]").isEmpty());
+    }
+
+    @Test
+    @DisplayName("getAllProducts should return only products with coupon when withCouponApplied is true")
+    void getAllProducts_shouldReturnOnlyProductsWithCoupon_whenWithCouponAppliedIsTrue() throws Exception {
+        String jsonBody = objectMapper.writeValueAsString(new CouponCodeDTO("PROMO10"));
+        mockMvc.perform(post("/api/v1/products/%d/discount/coupon".formatted(existingId))
+                        .contentType("application/json")
+                        .content(jsonBody))
+                .andExpect(status().isOk());
+
+        ResultActions result = mockMvc.perform(get("/api/v1/products?withCouponApplied=true")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(1));
+        result.andExpect(jsonPath("$.content[0].id").value(existingId));
+        result.andExpect(jsonPath("$.content[0].hasCouponApplied").value(true));
+    }
+
+    @Test
+    @DisplayName("getAllProducts with cursor should walk every product once in sort order without counting")
+    void getAllProducts_shouldWalkEveryProductOnce_whenCursorIsUsed() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        String after = "";
+        boolean last = false;
+        while (!last) {
+            String body = mockMvc.perform(get("/api/v1/products")
+                            .param("after", after)
+                            .param("size", "4")
+                            .param("sort", "price,desc")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            ids.addAll(JsonPath.read(body, "$.content[*].id"));
+            last = JsonPath.read(body, "$.last");
+            after = last ? after : JsonPath.read(body, "$.next");
+        }
+
+        String pageBody = mockMvc.perform(get("/api/v1/products?size=20&sort=price,desc&sort=id,desc"))
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> expected = JsonPath.read(pageBody, "$.content[*].id");
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName("getAllProducts with cursor should return 400 Bad Request when cursor is invalid")
+    void getAllProducts_shouldReturnBadRequest_whenCursorIsInvalid() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/products?after=invalid")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.error").value("Business rule exception"));
+    }
+
     @Test
     @DisplayName("partialUpdateProduct should return 200 OK and updated product when patch is valid")
     void partialUpdateProduct_shouldReturnOk_whenPatchIsValid() throws Exception {
@@ -384,4 +721,198 @@ public class ProductControllerIT {
         result.andExpect(status().isOk());
         result.andExpect(jsonPath("$.name").value(newName));
     }
+
+    @Test
+    @DisplayName("exportProducts should stream every active product as NDJSON with final price")
+    void exportProducts_shouldStreamActiveProductsAsNdjson_whenFormatIsNdjson() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/products/export?format=ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(9, lines.length);
+        assertEquals(1, (Integer) JsonPath.read(lines[0], "$.id"));
+        assertEquals(112.49, (Double) JsonPath.read(lines[4], "$.finalPrice"));
+        assertEquals("percent", JsonPath.read(lines[4], "$.discount.type"));
+    }
+
+    @Test
+    @DisplayName("exportProducts should stream every product as CSV including deleted ones when requested")
+    void exportProducts_shouldStreamAllProductsAsCsv_whenIncludeDeletedIsTrue() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/products/export?format=csv&includeDeleted=true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(11, lines.length);
+        assertTrue(lines[0].startsWith("id,name,description,price,finalPrice"));
+        assertTrue(lines[5].startsWith("5,Chaleira Elétrica Inox,\"Capacidade de 1.7 litros, desligamento automático.\",149.99,112.49,"));
+    }
+
+    @Test
+    @DisplayName("exportProducts should return 400 Bad Request when format is not supported")
+    void exportProducts_shouldReturnBadRequest_whenFormatIsNotSupported() throws Exception {
+        mockMvc.perform(get("/api/v1/products/export?format=xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format 'xml'. Use ndjson or csv."));
+    }
+
+    @Test
+    @DisplayName("applyBulkDirectPercentDiscount should apply, replace or skip each requested product")
+    void applyBulkDirectPercentDiscount_shouldReportEveryProduct_whenIdsAreGiven() throws Exception {
+        String jsonBody = """
+                { "percentage": 20, "ids": [%d, %d, %d, %d] }
+                """.formatted(existingId, alreadyDiscountedProductId, deletedProductId, nonExistingId);
+
+        ResultActions result = mockMvc.perform(post("/api/v1/products/discount/percent")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonBody));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.requested").value(4));
+        result.andExpect(jsonPath("$.applied").value(1));
+        result.andExpect(jsonPath("$.replaced").value(1));
+        result.andExpect(jsonPath("$.skipped").value(2));
+        result.andExpect(jsonPath("$.items[0].status").value("APPLIED"));
+        result.andExpect(jsonPath("$.items[0].finalPrice").value(159.92));
+        result.andExpect(jsonPath("$.items[1].status").value("REPLACED"));
+        result.andExpect(jsonPath("$.items[1].finalPrice").value(119.99));
+        result.andExpect(jsonPath("$.items[2].status").value("DELETED"));
+        result.andExpect(jsonPath("$.items[3].status").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/v1/products?hasDiscount=true&sort=id"))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[1].id").value(alreadyDiscountedProductId))
+                .andExpect(jsonPath("$.content[1].finalPrice").value(119.99))
+                .andExpect(jsonPath("$.content[1].discount.value").value(20));
+    }
+
+    @Test
+    @DisplayName("applyBulkDirectPercentDiscount should discount every product matching the filter and skip coupons")
+    void applyBulkDirectPercentDiscount_shouldDiscountMatchingProducts_whenFilterIsGiven() throws Exception {
+        mockMvc.perform(post("/api/v1/products/%d/discount/coupon".formatted(cheapProductId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO("PROMO10"))))
+                .andExpect(status().isOk());
+
+        ResultActions result = mockMvc.perform(post("/api/v1/products/discount/percent")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        { "percentage": 10, "filter": { "maxPrice": 100 } }
+                        """));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.requested").value(5));
+        result.andExpect(jsonPath("$.applied").value(4));
+        result.andExpect(jsonPath("$.items[?(@.productId == %d)].status".formatted(cheapProductId)).value("COUPON_APPLIED"));
+
+        mockMvc.perform(get("/api/v1/products?hasDiscount=false&maxPrice=100"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("applyBulkDirectPercentDiscount should return 400 Bad Request when ids and filter are both given")
+    void applyBulkDirectPercentDiscount_shouldReturnBadRequest_whenIdsAndFilterAreGiven() throws Exception {
+        mockMvc.perform(post("/api/v1/products/discount/percent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "percentage": 10, "ids": [1], "filter": { "maxPrice": 100 } }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Business rule exception"));
+    }
+
+    @Test
+    @DisplayName("applyBulkDirectPercentDiscount should return 400 Bad Request when percentage is out of range")
+    void applyBulkDirectPercentDiscount_shouldReturnBadRequest_whenPercentageIsInvalid() throws Exception {
+        mockMvc.perform(post("/api/v1/products/discount/percent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "percentage": 90, "ids": [1] }
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("importProducts should insert valid NDJSON rows in chunks and report duplicated or invalid rows by line")
+    @StatementBudget(110)
+    void importProducts_shouldInsertValidRows_whenBodyIsNdjson() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 1200; i++) {
+            body.append("{\"name\": \"Produto importado %d\", \"price\": \"%d,90\", \"stock\": %d}\n".formatted(i, i, i));
+        }
+        body.append("{\"name\": \"%s\", \"price\": 10, \"stock\": 1}\n".formatted(existingName));
+        body.append("{\"name\": \"Produto importado 1\", \"price\": 10, \"stock\": 1}\n");
+        body.append("{\"name\": \"Produto sem preço\", \"stock\": 1}\n");
+
+        ResultActions result = mockMvc.perform(post("/api/v1/products/import?format=ndjson")
+                .contentType("application/x-ndjson")
+                .content(body.toString()));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.processed").value(1203));
+        result.andExpect(jsonPath("$.imported").value(1200));
+        result.andExpect(jsonPath("$.failed").value(3));
+        result.andExpect(jsonPath("$.rowsPerSecond").isNumber());
+        result.andExpect(jsonPath("$.errors[0].line").value(1202));
+        result.andExpect(jsonPath("$.errors[0].errors.name").exists());
+        result.andExpect(jsonPath("$.errors[1].line").value(1203));
+        result.andExpect(jsonPath("$.errors[1].errors.price").value("Required field"));
+        result.andExpect(jsonPath("$.errors[2].line").value(1201));
+        result.andExpect(jsonPath("$.errors[2].errors.name").value("Product with name '%s' already exists.".formatted(existingName)));
+
+        Long imported = entityManager.createQuery("SELECT COUNT(p) FROM Product p WHERE p.normalizedName LIKE 'produto importado %'", Long.class).getSingleResult();
+        Long minId = entityManager.createQuery("SELECT MIN(p.id) FROM Product p WHERE p.normalizedName LIKE 'produto importado %'", Long.class).getSingleResult();
+        assertEquals(1200L, imported);
+        assertTrue(minId > 10L);
+
+        mockMvc.perform(get("/api/v1/products?search=importado 1200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].price").value(1200.90));
+    }
+
+    @Test
+    @DisplayName("importProducts should insert valid CSV rows with quoted fields")
+    void importProducts_shouldInsertValidRows_whenBodyIsCsv() throws Exception {
+        String body = """
+                name,description,price,stock
+                "Garrafa Térmica, 1L","Mantém quente
+                por 12 horas","89,90",15
+                Garrafa Térmica 500ml,,59.90,abc
+                """;
+
+        ResultActions result = mockMvc.perform(post("/api/v1/products/import?format=csv")
+                .contentType("text/csv")
+                .content(body.getBytes(StandardCharsets.UTF_8)));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.processed").value(2));
+        result.andExpect(jsonPath("$.imported").value(1));
+        result.andExpect(jsonPath("$.errors[0].line").value(4));
+        result.andExpect(jsonPath("$.errors[0].errors.stock").value("Stock must be an integer number"));
+
+        Product imported = entityManager.createQuery("SELECT p FROM Product p WHERE p.normalizedName = 'garrafa termica, 1l'", Product.class).getSingleResult();
+        assertEquals(new BigDecimal("89.90"), imported.getPrice());
+        assertEquals("Mantém quente\npor 12 horas", imported.getDescription());
+    }
+
+    @Test
+    @DisplayName("importProducts should return 400 Bad Request when format is not supported")
+    void importProducts_shouldReturnBadRequest_whenFormatIsNotSupported() throws Exception {
+        mockMvc.perform(post("/api/v1/products/import?format=xml")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<products/>"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported import format 'xml'. Use ndjson or csv."));
+    }
 }
@@ -0,0 +1,119 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReactiveProductControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "sort=id",
+            "search=café",
+            "search=cafe eletrica",
+            "hasDiscount=true&sort=id",
+            "hasDiscount=false&sort=finalPrice,desc",
+            "withCouponApplied=true&sort=id",
+            "onlyOutOfStock=true&sort=id",
+            "minPrice=40&maxPrice=150&sort=name",
+            "includeDeleted=true&sort=stock,desc&sort=id",
+            "page=1&size=3&sort=price"
+    })
+    @DisplayName("reactive listing should return the same products as GET /products for the same filters")
+    void getAllProducts_ShouldMatchMvcListing_WhenFiltersAreTheSame(String query) throws Exception {
+        JsonNode expected = objectMapper.readTree(mockMvc.perform(get("/api/v1/products?" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8)).get("content");
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/reactive/products?" + query).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        JsonNode actual = objectMapper.readTree(mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("reactive listing should stream one product per line when NDJSON is requested")
+    void getAllProducts_ShouldStreamProducts_WhenNdjsonIsRequested() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/reactive/products?size=5&sort=id").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(5, lines.length);
+        assertEquals(1, (Integer) JsonPath.read(lines[0], "$.id"));
+        assertEquals(112.49, (Double) JsonPath.read(lines[4], "$.finalPrice"));
+    }
+
+    @Test
+    @DisplayName("reactive lookup should return the product with its active discount and final price")
+    void getProductById_ShouldReturnFinalPrice_WhenProductHasActiveDiscount() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/reactive/products/5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.price").value(149.99))
+                .andExpect(jsonPath("$.finalPrice").value(112.49))
+                .andExpect(jsonPath("$.discount.type").value("percent"))
+                .andExpect(jsonPath("$.hasCouponApplied").value(false));
+    }
+
+    @Test
+    @DisplayName("reactive lookup should return 404 Not Found when product does not exist")
+    void getProductById_ShouldReturnNotFound_WhenIdDoesNotExist() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/reactive/products/999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Product with id '999' not found."));
+    }
+
+    @Test
+    @DisplayName("reactive listing should return 400 Bad Request when sort property is unknown")
+    void getAllProducts_ShouldReturnBadRequest_WhenSortPropertyIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/reactive/products?sort=normalizedName"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid sort property 'normalizedName'."));
+    }
+}
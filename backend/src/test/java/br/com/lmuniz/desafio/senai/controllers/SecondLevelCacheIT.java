@@ -0,0 +1,95 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.metrics.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SecondLevelCacheIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Statistics statistics;
+    private List<StatementCounter.RequestStatements> requestStatements;
+    private Runnable removeStatementListener;
+    private Long existingId;
+    private Long existingCouponId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        existingId = 5L;
+        existingCouponId = 1L;
+        requestStatements = new ArrayList<>();
+        removeStatementListener = statementCounter.addListener(requestStatements::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        removeStatementListener.run();
+    }
+
+    @Test
+    @DisplayName("getProductById should be served from the second-level cache once the product has been loaded")
+    void getProductById_ShouldHitSecondLevelCache_WhenProductWasAlreadyLoaded() throws Exception {
+        mockMvc.perform(get("/api/v1/products/{id}", existingId)).andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/products/{id}", existingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(149.99));
+
+        assertEquals(2, statistics.getDomainDataRegionStatistics("products").getHitCount());
+        assertEquals(0, requestStatements.get(1).statements());
+    }
+
+    @Test
+    @DisplayName("getCouponById should be served from the second-level cache once the coupon has been loaded")
+    void getCouponById_ShouldHitSecondLevelCache_WhenCouponWasAlreadyLoaded() throws Exception {
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingCouponId)).andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/coupons/{id}", existingCouponId)).andExpect(status().isOk());
+
+        assertEquals(2, statistics.getDomainDataRegionStatistics("coupons").getHitCount());
+        assertEquals(0, requestStatements.get(1).statements());
+    }
+
+    @Test
+    @DisplayName("hibernate second-level cache metrics should be published per region")
+    void metrics_ShouldExposeSecondLevelCacheRequests_WhenRegionIsCached() throws Exception {
+        mockMvc.perform(get("/api/v1/products/{id}", existingId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/products/{id}", existingId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/hibernate.second.level.cache.requests")
+                        .param("tag", "region:products", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").isNumber());
+    }
+}
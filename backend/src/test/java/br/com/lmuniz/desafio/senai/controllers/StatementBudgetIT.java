@@ -0,0 +1,167 @@
+package br.com.lmuniz.desafio.senai.controllers;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.BulkCouponApplicationDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.services.ProductService;
+import br.com.lmuniz.desafio.senai.tests.StatementBudget;
+import br.com.lmuniz.desafio.senai.utils.Utils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget",
+        "spring.jpa.show-sql=false",
+        "bulk-discount.filter-chunk-size=2"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+public class StatementBudgetIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> couponIds;
+
+    @BeforeEach
+    void setUp() {
+        couponIds = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("UPDATE products SET active_coupon_application_id = NULL, active_direct_discount_application_id = NULL WHERE id > 10");
+        jdbcTemplate.update("DELETE FROM product_coupon_applications WHERE product_id > 10");
+        jdbcTemplate.update("DELETE FROM product_direct_discount_applications WHERE product_id > 10");
+        jdbcTemplate.update("DELETE FROM product_search_terms WHERE product_id > 10");
+        jdbcTemplate.update("DELETE FROM products WHERE id > 10");
+        couponIds.forEach(id -> jdbcTemplate.update("DELETE FROM coupons WHERE id = ?", id));
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should stay within its budget when the redemption is committed")
+    @StatementBudget(4)
+    void applyCouponDiscount_ShouldStayWithinBudget_WhenRedemptionIsCommitted() throws Exception {
+        Long productId = createProduct();
+        Coupon coupon = createCoupon("budgetapply", false, null);
+
+        mockMvc.perform(post("/api/v1/products/{id}/discount/coupon", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponCodeDTO(coupon.getCode()))))
+                .andExpect(status().isOk());
+
+        assertEquals(1, couponRepository.findUsesCountById(coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("removeDiscount should stay within its budget when the coupon release is committed")
+    @StatementBudget(4)
+    void removeDiscount_ShouldStayWithinBudget_WhenCouponReleaseIsCommitted() throws Exception {
+        Long productId = createProduct();
+        Coupon coupon = createCoupon("budgetremove", false, null);
+        productService.applyCouponDiscount(productId, new CouponCodeDTO(coupon.getCode()));
+
+        mockMvc.perform(delete("/api/v1/products/{id}/discount", productId))
+                .andExpect(status().isNoContent());
+
+        assertEquals(0, couponRepository.findUsesCountById(coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("applyCouponToProducts should stay within its budget when the bulk redemption is committed")
+    @StatementBudget(6)
+    void applyCouponToProducts_ShouldStayWithinBudget_WhenBulkRedemptionIsCommitted() throws Exception {
+        List<Long> targets = List.of(createProduct(), createProduct(), createProduct());
+        Coupon coupon = createCoupon("budgetbulk", false, null);
+
+        mockMvc.perform(post("/api/v1/coupons/{code}/apply", coupon.getCode())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCouponApplicationDTO(targets))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(3));
+
+        assertEquals(3, couponRepository.findUsesCountById(coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should stay within its budget when the filter matches span several chunks")
+    @StatementBudget(12)
+    void applyDirectPercentDiscount_ShouldStayWithinBudget_WhenFilterMatchesSpanSeveralChunks() throws Exception {
+        createProduct(BigDecimal.valueOf(9000));
+        createProduct(BigDecimal.valueOf(9000));
+        createProduct(BigDecimal.valueOf(9000));
+
+        mockMvc.perform(post("/api/v1/products/discount/percent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "percentage": 10, "filter": { "minPrice": 8000 } }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.applied").value(3));
+    }
+
+    private Long createProduct() {
+        return createProduct(BigDecimal.valueOf(100));
+    }
+
+    private Long createProduct(BigDecimal price) {
+        String name = "Produto orcamento " + System.nanoTime();
+        return productRepository.save(new Product(name, Utils.normalizeName(name), null, price, 10)).getId();
+    }
+
+    private Coupon createCoupon(String code, boolean oneShot, Integer maxUses) {
+        Coupon coupon = couponRepository.save(new Coupon(
+                code,
+                CouponEnum.PERCENT,
+                BigDecimal.TEN,
+                oneShot,
+                maxUses,
+                Instant.now().minus(1, ChronoUnit.DAYS),
+                Instant.now().plus(1, ChronoUnit.DAYS)
+        ));
+        couponIds.add(coupon.getId());
+        return coupon;
+    }
+}
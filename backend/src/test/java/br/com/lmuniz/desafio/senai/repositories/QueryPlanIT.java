@@ -0,0 +1,222 @@
+package br.com.lmuniz.desafio.senai.repositories;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductFinalPrice;
+import br.com.lmuniz.desafio.senai.repositories.specifications.ProductSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+public class QueryPlanIT {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private ProductCouponApplicationRepository productCouponApplicationRepository;
+
+    @Autowired
+    private ProductDiscountBatchRepository productDiscountBatchRepository;
+
+    @Autowired
+    private ReactiveProductRepository reactiveProductRepository;
+
+    private Long existingId;
+    private Long discountedProductId;
+    private Long existingCouponId;
+    private String existingCouponCode;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        existingId = 1L;
+        discountedProductId = 5L;
+        existingCouponId = 1L;
+        existingCouponCode = "promo10";
+        entityManagerFactory.getCache().evictAll();
+        setQueryStatistics(false);
+        setQueryStatistics(true);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        setQueryStatistics(false);
+    }
+
+    @Test
+    @DisplayName("product listing queries should be answered from indexes for every filter combination")
+    void findListing_ShouldUseIndexes_WhenFilteringActiveProducts() {
+        PageRequest page = PageRequest.of(0, 10, Sort.by("id"));
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, null, null, null, null)), page);
+        productRepository.findListing(ProductSpecification.fromFilter(filter("cafe", null, null, null, null)), PageRequest.of(0, 10));
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, new BigDecimal("10.00"), new BigDecimal("100.00"), null, null)),
+                PageRequest.of(0, 10, Sort.by("finalPrice")));
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, null, null, true, null)), page);
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, null, null, false, null)), page);
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, null, null, null, true)), page);
+        productRepository.findListing(ProductSpecification.fromFilter(filter(null, null, null, null, null)), Sort.by("id"), 11);
+        productRepository.findPricing(ProductSpecification.idIn(List.of(existingId, discountedProductId)));
+        productRepository.findById(existingId);
+        productRepository.existsByNormalizedName("cafeteira eletrica mondial");
+        productRepository.findExistingNormalizedNames(List.of("cafeteira eletrica mondial", "chaleira eletrica inox"));
+
+        assertEveryStatementUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("reactive product listing queries should be answered from indexes")
+    void reactiveFindListing_ShouldUseIndexes_WhenFilteringActiveProducts() {
+        reactiveProductRepository.findListing(filter(null, null, null, true, null), PageRequest.of(0, 10, Sort.by("id"))).collectList().block();
+        reactiveProductRepository.findListing(filter("cafe", null, null, null, true), PageRequest.of(0, 10)).collectList().block();
+        reactiveProductRepository.findListingById(discountedProductId).block();
+
+        assertEveryStatementUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("coupon queries should be answered from indexes")
+    void couponQueries_ShouldUseIndexes_WhenLookingUpAndRedeemingCoupons() {
+        Instant now = Instant.now();
+        couponRepository.searchValidCoupons(now);
+        couponRepository.existsByCode(existingCouponCode);
+        couponRepository.findByCode(existingCouponCode);
+        couponRepository.findByCodeAndIdNot(existingCouponCode, existingCouponId + 1);
+        couponRepository.findUsesCountById(existingCouponId);
+        couponRepository.findById(existingCouponId);
+        couponRepository.incrementUsesCount(existingCouponId, 1, now);
+        couponRepository.decrementUsesCount(existingCouponId, 1);
+
+        assertEveryStatementUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("active discount application queries should be answered from indexes")
+    void applicationQueries_ShouldUseIndexes_WhenReadingAndRemovingActiveDiscounts() {
+        Instant now = Instant.now();
+        productCouponApplicationRepository.findAllByCouponIdAndRemovedAtIsNull(existingCouponId);
+        productRepository.resetFinalPriceForActiveCoupon(existingCouponId);
+        productCouponApplicationRepository.removeActiveApplicationsByCouponId(existingCouponId, now);
+        productDiscountBatchRepository.updateFinalPrices(List.of(new ProductFinalPrice(existingId, new BigDecimal("179.91"))),
+                ActiveDiscountEnum.DIRECT, List.of(ActiveDiscountEnum.NONE), now);
+        productDiscountBatchRepository.removeActiveDirectDiscounts(List.of(discountedProductId), now);
+        productDiscountBatchRepository.insertDirectDiscounts(List.of(discountedProductId), new BigDecimal("10.00"), now);
+
+        assertEveryStatementUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("database should reject a product pointing to a coupon application while its discount type is not coupon")
+    void activeCouponApplication_ShouldBeRejected_WhenProductDiscountTypeIsNotCoupon() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> productDiscountBatchRepository.insertCouponApplications(List.of(existingId), existingCouponId, Instant.now()));
+    }
+
+    @Test
+    @DisplayName("database should reject a second active coupon application for the same product")
+    void activeCouponApplication_ShouldBeUnique_WhenProductAlreadyHasOne() {
+        Instant now = Instant.now();
+        productDiscountBatchRepository.updateFinalPrices(List.of(new ProductFinalPrice(existingId, new BigDecimal("179.91"))),
+                ActiveDiscountEnum.COUPON, List.of(ActiveDiscountEnum.NONE), now);
+        productDiscountBatchRepository.insertCouponApplications(List.of(existingId), existingCouponId, now);
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> productDiscountBatchRepository.insertCouponApplications(List.of(existingId), existingCouponId + 1, now));
+    }
+
+    @Test
+    @DisplayName("database should reject a second active direct discount for the same product")
+    void activeDirectDiscount_ShouldBeUnique_WhenProductAlreadyHasOne() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> productDiscountBatchRepository.insertDirectDiscounts(List.of(discountedProductId), new BigDecimal("10.00"), Instant.now()));
+    }
+
+    @Test
+    @DisplayName("database should accept a new active direct discount once the previous one is removed")
+    void activeDirectDiscount_ShouldBeAccepted_WhenPreviousOneWasRemoved() {
+        Instant now = Instant.now();
+        productDiscountBatchRepository.removeActiveDirectDiscounts(List.of(discountedProductId), now);
+
+        assertDoesNotThrow(() -> productDiscountBatchRepository.insertDirectDiscounts(List.of(discountedProductId), new BigDecimal("10.00"), now));
+    }
+
+    private static ProductFilterDTO filter(String search, BigDecimal minPrice, BigDecimal maxPrice, Boolean hasDiscount, Boolean withCouponApplied) {
+        return new ProductFilterDTO(search, minPrice, maxPrice, hasDiscount, null, null, withCouponApplied);
+    }
+
+    private void assertEveryStatementUsesAnIndex() {
+        List<String> statements = jdbcTemplate.queryForList(
+                "SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS", String.class).stream()
+                .filter(sql -> sql.matches("(?is)\\s*(select|update|delete)\\b.*"))
+                .filter(sql -> !sql.toUpperCase().contains("INFORMATION_SCHEMA"))
+                .toList();
+        assertFalse(statements.isEmpty());
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            if (plan.contains(".tableScan")) {
+                scans.add(sql + System.lineSeparator() + plan);
+            }
+        }
+        assertTrue(scans.isEmpty(), () -> "Statements without an index:" + System.lineSeparator()
+                + String.join(System.lineSeparator() + System.lineSeparator(), scans));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private void setQueryStatistics(boolean enabled) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET QUERY_STATISTICS_MAX_ENTRIES 1000");
+            statement.execute("SET QUERY_STATISTICS " + enabled);
+        }
+    }
+}
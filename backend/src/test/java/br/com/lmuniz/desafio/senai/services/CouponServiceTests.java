@@ -1,19 +1,26 @@
 package br.com.lmuniz.desafio.senai.services;
 
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponDetailsDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponSnapshot;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
 import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductCouponApplicationRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
 import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
 import br.com.lmuniz.desafio.senai.services.exceptions.DatabaseException;
+import br.com.lmuniz.desafio.senai.services.exceptions.PreconditionFailedException;
 import br.com.lmuniz.desafio.senai.services.exceptions.ResourceConflictException;
 import br.com.lmuniz.desafio.senai.services.exceptions.ResourceNotFoundException;
 import br.com.lmuniz.desafio.senai.tests.CouponFactory;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.github.fge.jsonpatch.JsonPatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,17 +29,28 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,9 +69,22 @@ public class CouponServiceTests {
     @Mock
     private ProductCouponApplicationRepository productCouponApplicationRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
+    @Spy
+    private CouponCache couponCache = new CouponCache(100, Duration.ofMinutes(5));
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DiscountMetrics discountMetrics = new DiscountMetrics(meterRegistry);
 
     private Long existingId;
     private Long nonExistingId;
@@ -149,6 +180,16 @@ public class CouponServiceTests {
         verify(couponRepository).save(any(Coupon.class));
     }
 
+    @Test
+    @DisplayName("createCoupon should throw ResourceConflictException when normalized code already exists")
+    void createCoupon_ShouldThrowResourceConflictException_WhenNormalizedCodeAlreadyExists() {
+        when(couponRepository.existsByCode(couponDTO.code())).thenReturn(true);
+
+        assertThrows(ResourceConflictException.class, () -> couponService.createCoupon(couponDTO));
+
+        verify(couponRepository, never()).save(any(Coupon.class));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"admin", "auth", "null", "undefined"})
     @DisplayName("createCoupon should throw BusinessRuleException for reserved codes")
@@ -161,17 +202,93 @@ public class CouponServiceTests {
     @Test
     @DisplayName("deleteCoupon should set deletedAt when ID exists")
     void deleteCoupon_ShouldSetDeletedAt_WhenIdExists() {
-        couponService.deleteCoupon(existingId);
+        couponService.deleteCoupon(existingId, null);
 
         verify(couponRepository).findById(existingId);
         verify(couponRepository).save(any(Coupon.class));
+        verify(couponCache).evictAfterCompletion(coupon.getCode());
         assertNotNull(coupon.getDeletedAt());
     }
 
+    @Test
+    @DisplayName("deleteCoupon should throw PreconditionFailedException when If-Match does not match the current version")
+    void deleteCoupon_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        assertThrows(PreconditionFailedException.class, () -> couponService.deleteCoupon(existingId, "\"7.0\""));
+
+        verify(couponRepository, never()).save(any(Coupon.class));
+        assertNull(coupon.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("deleteCoupon should evict cached coupon only after transaction completion")
+    void deleteCoupon_ShouldEvictCachedCouponAfterCompletion_WhenTransactionIsActive() {
+        couponCache.get(coupon.getCode(), code -> Optional.of(new CouponSnapshot(coupon)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            couponService.deleteCoupon(existingId, null);
+            assertNotNull(couponCache.getNativeCache().getIfPresent(coupon.getCode()));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(couponCache.getNativeCache().getIfPresent(coupon.getCode()));
+    }
+
+    @Test
+    @DisplayName("coupon cache should run a single load outside the cache lock while concurrent readers wait for it")
+    void couponCacheGet_ShouldLoadOnce_WhenReadersRaceOnTheSameCode() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<CouponSnapshot>> loader = code -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(new CouponSnapshot(coupon));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<CouponSnapshot>> first = executor.submit(() -> couponCache.get(coupon.getCode(), loader));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<Optional<CouponSnapshot>> second = executor.submit(() -> couponCache.get(coupon.getCode(), loader));
+
+            assertFalse(second.isDone());
+            release.countDown();
+
+            assertEquals(coupon.getCode(), first.get(5, TimeUnit.SECONDS).orElseThrow().code());
+            assertSame(first.get(), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("coupon cache should rethrow loader failures without caching them")
+    void couponCacheGet_ShouldNotCacheFailure_WhenLoaderThrows() {
+        assertThrows(DatabaseException.class, () -> couponCache.get(coupon.getCode(), code -> {
+            throw new DatabaseException("Database unavailable");
+        }));
+        assertNull(couponCache.getNativeCache().getIfPresent(coupon.getCode()));
+
+        Optional<CouponSnapshot> snapshot = couponCache.get(coupon.getCode(), code -> Optional.of(new CouponSnapshot(coupon)));
+
+        assertTrue(snapshot.isPresent());
+    }
+
     @Test
     @DisplayName("deleteCoupon should throw ResourceNotFoundException when ID does not exist")
     void deleteCoupon_ShouldThrowResourceNotFoundException_WhenIdDoesNotExist() {
-        assertThrows(ResourceNotFoundException.class, () -> couponService.deleteCoupon(nonExistingId));
+        assertThrows(ResourceNotFoundException.class, () -> couponService.deleteCoupon(nonExistingId, null));
         verify(couponRepository).findById(nonExistingId);
         verify(couponRepository, never()).save(any());
     }
@@ -185,10 +302,10 @@ public class CouponServiceTests {
                 ]
                 """;
 
-        JsonPatch invalidPatch = JsonPatch.fromJson(objectMapper.readTree(invalidPatchJson));
+        JsonNode invalidPatch = objectMapper.readTree(invalidPatchJson);
 
         assertThrows(BusinessRuleException.class, () -> {
-            couponService.partialUpdateCoupon(existingId, invalidPatch);
+            couponService.partialUpdateCoupon(existingId, invalidPatch, null);
         });
         verify(couponRepository, times(1)).findById(existingId);
     }
@@ -202,10 +319,10 @@ public class CouponServiceTests {
                 ]
                 """;
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            couponService.partialUpdateCoupon(nonExistingId, patch);
+            couponService.partialUpdateCoupon(nonExistingId, patch, null);
         });
         verify(couponRepository, times(1)).findById(nonExistingId);
     }
@@ -218,12 +335,12 @@ public class CouponServiceTests {
                 [{ "op": "replace", "path": "/code", "value": "newCode" }]
                 """;
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         when(couponRepository.findByCodeAndIdNot("newCode", existingId)).thenReturn(Optional.of(coupon));
 
         assertThrows(ResourceConflictException.class, () -> {
-            couponService.partialUpdateCoupon(existingId, patch);
+            couponService.partialUpdateCoupon(existingId, patch, null);
         });
 
         verify(couponRepository, times(1)).findById(existingId);
@@ -239,27 +356,49 @@ public class CouponServiceTests {
                 ]
                 """;
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
         when(productCouponApplicationRepository.removeActiveApplicationsByCouponId(any(Long.class), any(Instant.class)))
                 .thenReturn(50);
 
         assertThrows(DatabaseException.class, () -> {
-            couponService.partialUpdateCoupon(existingId, patch);
+            couponService.partialUpdateCoupon(existingId, patch, null);
         });
 
         verify(couponRepository, times(1)).findById(existingId);
         verify(couponRepository, never()).saveAndFlush(any());
     }
 
+    @Test
+    @DisplayName("partialUpdateCoupon should reset final price of discounted products before removing applications when value changes")
+    void partialUpdateCoupon_ShouldResetFinalPrice_WhenValueChanges() throws Exception {
+        String patchJson = """
+                [
+                    { "op": "replace", "path": "/value", "value": 8 }
+                ]
+                """;
+
+        JsonNode patch = objectMapper.readTree(patchJson);
+        coupon.setUsesCount(2);
+        when(productCouponApplicationRepository.removeActiveApplicationsByCouponId(eq(existingId), any(Instant.class))).thenReturn(2);
+        when(couponRepository.decrementUsesCount(existingId, 2)).thenReturn(1);
+
+        couponService.partialUpdateCoupon(existingId, patch, null);
+
+        assertEquals(2, meterRegistry.get("coupon.discounts.removed").counter().count());
+        InOrder inOrder = inOrder(productRepository, productCouponApplicationRepository);
+        inOrder.verify(productRepository).resetFinalPriceForActiveCoupon(existingId);
+        inOrder.verify(productCouponApplicationRepository).removeActiveApplicationsByCouponId(eq(existingId), any(Instant.class));
+    }
+
     @ParameterizedTest(name = "should update coupon {0}")
     @MethodSource("provideValidPatches")
     @DisplayName("partialUpdateCoupon should update coupon when patch is valid")
     void partialUpdateCoupon_shouldUpdateCoupon_whenPatchIsValid(
             String scenarioName, String patchJson) throws Exception {
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         CouponDetailsDTO result = assertDoesNotThrow(() -> {
-            return couponService.partialUpdateCoupon(existingId, patch);
+            return couponService.partialUpdateCoupon(existingId, patch, null);
         });
 
         assertNotNull(result);
@@ -325,10 +464,10 @@ public class CouponServiceTests {
     void partialUpdateCoupon_shouldCollectAllErrors_forInvalidPatch(
             String scenarioName, String patchJson, List<String> expectedErrorKeys) throws Exception {
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         BusinessRuleException exceptionResult = assertThrows(BusinessRuleException.class, () -> {
-            couponService.partialUpdateCoupon(existingId, patch);
+            couponService.partialUpdateCoupon(existingId, patch, null);
         });
 
         Map<String, String> errors = exceptionResult.getErrors();
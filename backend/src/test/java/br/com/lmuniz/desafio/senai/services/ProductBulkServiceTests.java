@@ -0,0 +1,280 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
+import br.com.lmuniz.desafio.senai.domains.dtos.coupons.BulkCouponApplicationDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDirectDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountItemDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.discounts.BulkDiscountResultDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductFilterDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.BulkDiscountStatusEnum;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
+import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductDiscountBatchRepository;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.repositories.projections.CouponUsageProjection;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductFinalPrice;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductPricingProjection;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import br.com.lmuniz.desafio.senai.services.exceptions.ResourceNotFoundException;
+import br.com.lmuniz.desafio.senai.tests.CouponFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ProductBulkServiceTests {
+
+    private static final int FILTER_CHUNK_SIZE = 3;
+
+    private ProductBulkService productBulkService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDiscountBatchRepository productDiscountBatchRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Spy
+    private CouponCache couponCache = new CouponCache(100, Duration.ofMinutes(5));
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DiscountMetrics discountMetrics = new DiscountMetrics(meterRegistry);
+
+    private ProductPricingProjection available;
+    private ProductPricingProjection directDiscounted;
+    private ProductPricingProjection couponDiscounted;
+    private ProductPricingProjection deleted;
+    private ProductPricingProjection cheap;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        productBulkService = new ProductBulkService(productRepository, productDiscountBatchRepository, couponRepository,
+                couponCache, entityCacheEvictor, discountMetrics, FILTER_CHUNK_SIZE);
+        available = new ProductPricingProjection(1L, new BigDecimal("100.00"), null, ActiveDiscountEnum.NONE);
+        directDiscounted = new ProductPricingProjection(2L, new BigDecimal("50.00"), null, ActiveDiscountEnum.DIRECT);
+        couponDiscounted = new ProductPricingProjection(3L, new BigDecimal("80.00"), null, ActiveDiscountEnum.COUPON);
+        deleted = new ProductPricingProjection(4L, new BigDecimal("10.00"), Instant.now(), ActiveDiscountEnum.NONE);
+        cheap = new ProductPricingProjection(5L, new BigDecimal("0.01"), null, ActiveDiscountEnum.NONE);
+        coupon = CouponFactory.createCoupon();
+        coupon.setId(10L);
+        coupon.setMaxUses(3);
+        coupon.setUsesCount(1);
+
+        when(couponRepository.findByCode(coupon.getCode())).thenReturn(coupon);
+        when(couponRepository.findUsageById(coupon.getId())).thenAnswer(invocation -> Optional.of(new CouponUsageProjection(
+                coupon.getUsesCount(), coupon.getOneShot(), coupon.getMaxUses(), coupon.getValidFrom(), coupon.getValidUntil(), coupon.getDeletedAt())));
+        when(couponRepository.incrementUsesCount(eq(coupon.getId()), anyInt(), any(Instant.class))).thenAnswer(invocation -> {
+            int amount = invocation.getArgument(1);
+            if (coupon.getUsesCount() + amount > coupon.getMaxUses()) {
+                return 0;
+            }
+            coupon.setUsesCount(coupon.getUsesCount() + amount);
+            return 1;
+        });
+
+        when(productDiscountBatchRepository.updateFinalPrices(anyList(), any(ActiveDiscountEnum.class), any(), any(Instant.class)))
+                .thenAnswer(invocation -> {
+                    List<ProductFinalPrice> prices = invocation.getArgument(0);
+                    int[] counts = new int[prices.size()];
+                    Arrays.fill(counts, 1);
+                    return counts;
+                });
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should report a status for every requested id")
+    void applyDirectPercentDiscount_ShouldReportEveryProduct_WhenIdsAreGiven() {
+        when(productRepository.findPricing(any())).thenReturn(List.of(available, directDiscounted, couponDiscounted, deleted, cheap));
+        BulkDirectDiscountDTO dto = new BulkDirectDiscountDTO(BigDecimal.valueOf(80), List.of(1L, 2L, 3L, 4L, 5L, 999L, 1L), null);
+
+        BulkDiscountResultDTO result = productBulkService.applyDirectPercentDiscount(dto);
+
+        assertEquals(6, result.requested());
+        assertEquals(1, result.applied());
+        assertEquals(1, result.replaced());
+        assertEquals(4, result.skipped());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 999L), result.items().stream().map(BulkDiscountItemDTO::productId).toList());
+        assertEquals(new BulkDiscountItemDTO(1L, BulkDiscountStatusEnum.APPLIED, new BigDecimal("20.00")), result.items().get(0));
+        assertEquals(new BulkDiscountItemDTO(2L, BulkDiscountStatusEnum.REPLACED, new BigDecimal("10.00")), result.items().get(1));
+        assertEquals(BulkDiscountStatusEnum.COUPON_APPLIED, result.items().get(2).status());
+        assertEquals(BulkDiscountStatusEnum.DELETED, result.items().get(3).status());
+        assertEquals(BulkDiscountStatusEnum.INVALID_PRICE, result.items().get(4).status());
+        assertEquals(BulkDiscountStatusEnum.NOT_FOUND, result.items().get(5).status());
+
+        verify(productRepository, times(1)).findPricing(any());
+        verify(productDiscountBatchRepository).removeActiveDirectDiscounts(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(productDiscountBatchRepository).insertDirectDiscounts(eq(List.of(1L, 2L)), eq(BigDecimal.valueOf(80)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should skip products whose discount changed after they were read")
+    void applyDirectPercentDiscount_ShouldSkipProduct_WhenGuardedUpdateAffectsNoRow() {
+        when(productRepository.findPricing(any(), anyInt())).thenReturn(List.of(available, directDiscounted));
+        when(productDiscountBatchRepository.updateFinalPrices(anyList(), eq(ActiveDiscountEnum.DIRECT), any(), any(Instant.class)))
+                .thenReturn(new int[]{0, 1});
+        BulkDirectDiscountDTO dto = new BulkDirectDiscountDTO(BigDecimal.TEN, null, new ProductFilterDTO(null, null, BigDecimal.valueOf(100), null, null, null, null));
+
+        BulkDiscountResultDTO result = productBulkService.applyDirectPercentDiscount(dto);
+
+        assertEquals(BulkDiscountStatusEnum.CONCURRENT_UPDATE, result.items().get(0).status());
+        assertEquals(BulkDiscountStatusEnum.REPLACED, result.items().get(1).status());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productDiscountBatchRepository).insertDirectDiscounts(captor.capture(), eq(BigDecimal.TEN), any(Instant.class));
+        assertEquals(List.of(2L), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should walk filter matches in keyset chunks and write each chunk separately")
+    void applyDirectPercentDiscount_ShouldProcessChunks_WhenFilterMatchesMoreThanChunkSize() {
+        ProductPricingProjection sixth = new ProductPricingProjection(6L, new BigDecimal("60.00"), null, ActiveDiscountEnum.NONE);
+        when(productRepository.findPricing(any(), eq(FILTER_CHUNK_SIZE)))
+                .thenReturn(List.of(available, directDiscounted, couponDiscounted))
+                .thenReturn(List.of(deleted, cheap, sixth))
+                .thenReturn(List.of());
+        BulkDirectDiscountDTO dto = new BulkDirectDiscountDTO(BigDecimal.TEN, null, new ProductFilterDTO(null, null, null, null, null, null, null));
+
+        BulkDiscountResultDTO result = productBulkService.applyDirectPercentDiscount(dto);
+
+        assertEquals(6, result.requested());
+        assertEquals(3, result.applied());
+        assertEquals(1, result.replaced());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), result.items().stream().map(BulkDiscountItemDTO::productId).toList());
+        assertEquals(new BulkDiscountItemDTO(6L, BulkDiscountStatusEnum.APPLIED, new BigDecimal("54.00")), result.items().get(5));
+
+        verify(productRepository, times(3)).findPricing(any(), eq(FILTER_CHUNK_SIZE));
+        verify(productRepository, never()).count(ArgumentMatchers.<Specification<Product>>any());
+        verify(productDiscountBatchRepository).insertDirectDiscounts(eq(List.of(1L, 2L)), eq(BigDecimal.TEN), any(Instant.class));
+        verify(productDiscountBatchRepository).insertDirectDiscounts(eq(List.of(5L, 6L)), eq(BigDecimal.TEN), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should throw BusinessRuleException when both ids and filter are given")
+    void applyDirectPercentDiscount_ShouldThrowBusinessRuleException_WhenIdsAndFilterAreGiven() {
+        BulkDirectDiscountDTO dto = new BulkDirectDiscountDTO(BigDecimal.TEN, List.of(1L), new ProductFilterDTO(null, null, null, null, null, null, null));
+
+        assertThrows(BusinessRuleException.class, () -> productBulkService.applyDirectPercentDiscount(dto));
+
+        verifyNoInteractions(productRepository);
+        verifyNoInteractions(productDiscountBatchRepository);
+    }
+
+    @Test
+    @DisplayName("applyDirectPercentDiscount should throw BusinessRuleException when neither ids nor filter are given")
+    void applyDirectPercentDiscount_ShouldThrowBusinessRuleException_WhenSelectionIsMissing() {
+        BulkDirectDiscountDTO dto = new BulkDirectDiscountDTO(BigDecimal.TEN, List.of(), null);
+
+        assertThrows(BusinessRuleException.class, () -> productBulkService.applyDirectPercentDiscount(dto));
+
+        verifyNoInteractions(productDiscountBatchRepository);
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should reserve only the remaining coupon uses and report the rest")
+    void applyCouponDiscount_ShouldApplyUpToRemainingUses_WhenBatchExceedsCapacity() {
+        ProductPricingProjection second = new ProductPricingProjection(6L, new BigDecimal("200.00"), null, ActiveDiscountEnum.NONE);
+        ProductPricingProjection third = new ProductPricingProjection(7L, new BigDecimal("300.00"), null, ActiveDiscountEnum.NONE);
+        when(productRepository.findPricing(any())).thenReturn(List.of(available, directDiscounted, second, third));
+
+        BulkDiscountResultDTO result = productBulkService.applyCouponDiscount("PROMO", new BulkCouponApplicationDTO(List.of(7L, 1L, 2L, 6L, 999L)));
+
+        assertEquals(List.of(7L, 1L, 2L, 6L, 999L), result.items().stream().map(BulkDiscountItemDTO::productId).toList());
+        assertEquals(new BulkDiscountItemDTO(7L, BulkDiscountStatusEnum.APPLIED, new BigDecimal("270.00")), result.items().get(0));
+        assertEquals(new BulkDiscountItemDTO(1L, BulkDiscountStatusEnum.APPLIED, new BigDecimal("90.00")), result.items().get(1));
+        assertEquals(BulkDiscountStatusEnum.DIRECT_APPLIED, result.items().get(2).status());
+        assertEquals(BulkDiscountStatusEnum.USAGE_LIMIT_REACHED, result.items().get(3).status());
+        assertEquals(BulkDiscountStatusEnum.NOT_FOUND, result.items().get(4).status());
+        assertEquals(3, coupon.getUsesCount());
+
+        verify(couponRepository, times(1)).findByCode("promo");
+        verify(couponRepository).incrementUsesCount(eq(coupon.getId()), eq(3), any(Instant.class));
+        verify(couponRepository).incrementUsesCount(eq(coupon.getId()), eq(2), any(Instant.class));
+        verify(productDiscountBatchRepository).insertCouponApplications(eq(List.of(7L, 1L)), eq(coupon.getId()), any(Instant.class));
+        verify(couponRepository, never()).decrementUsesCount(anyLong(), anyInt());
+        assertEquals(2, meterRegistry.get("coupon.redemptions").tag("mode", "bulk").counter().count());
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should release reserved uses for products changed concurrently")
+    void applyCouponDiscount_ShouldReleaseReservedUses_WhenGuardedUpdateAffectsNoRow() {
+        when(productRepository.findPricing(any())).thenReturn(List.of(available, cheap));
+        when(productDiscountBatchRepository.updateFinalPrices(anyList(), eq(ActiveDiscountEnum.COUPON), any(), any(Instant.class)))
+                .thenReturn(new int[]{1, 0});
+        coupon.setType(CouponEnum.FIXED);
+        coupon.setValue(new BigDecimal("0.00"));
+
+        BulkDiscountResultDTO result = productBulkService.applyCouponDiscount("promo", new BulkCouponApplicationDTO(List.of(1L, 5L)));
+
+        assertEquals(BulkDiscountStatusEnum.APPLIED, result.items().get(0).status());
+        assertEquals(BulkDiscountStatusEnum.CONCURRENT_UPDATE, result.items().get(1).status());
+        verify(couponRepository).decrementUsesCount(coupon.getId(), 1);
+        verify(productDiscountBatchRepository).insertCouponApplications(eq(List.of(1L)), eq(coupon.getId()), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should stop reserving and reject the coupon when it is deleted concurrently")
+    void applyCouponDiscount_ShouldThrowBusinessRuleException_WhenCouponIsDeletedConcurrently() {
+        coupon.setMaxUses(null);
+        when(productRepository.findPricing(any())).thenReturn(List.of(available));
+        when(couponRepository.incrementUsesCount(eq(coupon.getId()), anyInt(), any(Instant.class))).thenAnswer(invocation -> {
+            coupon.setDeletedAt(Instant.now());
+            return 0;
+        });
+
+        assertThrows(BusinessRuleException.class, () ->
+                productBulkService.applyCouponDiscount("promo", new BulkCouponApplicationDTO(List.of(1L))));
+
+        verify(couponRepository, times(1)).incrementUsesCount(eq(coupon.getId()), anyInt(), any(Instant.class));
+        verifyNoInteractions(productDiscountBatchRepository);
+        assertEquals(1, meterRegistry.get("coupon.rejections").tag("reason", "deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("applyCouponDiscount should throw ResourceNotFoundException when coupon does not exist")
+    void applyCouponDiscount_ShouldThrowResourceNotFoundException_WhenCouponDoesNotExist() {
+        assertThrows(ResourceNotFoundException.class, () ->
+                productBulkService.applyCouponDiscount("invalid", new BulkCouponApplicationDTO(List.of(1L))));
+
+        verify(productRepository, never()).findPricing(any());
+        verifyNoInteractions(productDiscountBatchRepository);
+        assertEquals(1, meterRegistry.get("coupon.rejections").tag("reason", "not_found").counter().count());
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ExportFormatEnum;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import br.com.lmuniz.desafio.senai.tests.ProductFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ProductExportServiceTests {
+
+    @InjectMocks
+    private ProductExportService productExportService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Product product;
+    private Product productWithQuotes;
+
+    @BeforeEach
+    void setUp() {
+        product = ProductFactory.createProduct();
+        productWithQuotes = ProductFactory.createProduct(2L, "Caneca \"Grande\"", "Cerâmica, 350ml", BigDecimal.valueOf(30), 0);
+
+        when(productRepository.streamListing(any(), any(Sort.class), anyInt())).thenAnswer(invocation -> Stream.of(
+                ProductFactory.createListingProjection(product),
+                ProductFactory.createListingProjection(productWithQuotes)));
+    }
+
+    @Test
+    @DisplayName("resolveFormat should accept formats ignoring case")
+    void resolveFormat_ShouldReturnFormat_WhenFormatIsSupported() {
+        assertEquals(ExportFormatEnum.NDJSON, productExportService.resolveFormat("NDJSON"));
+        assertEquals(ExportFormatEnum.CSV, productExportService.resolveFormat("csv"));
+    }
+
+    @Test
+    @DisplayName("resolveFormat should throw BusinessRuleException when format is not supported")
+    void resolveFormat_ShouldThrowBusinessRuleException_WhenFormatIsNotSupported() {
+        assertThrows(BusinessRuleException.class, () -> productExportService.resolveFormat("xml"));
+    }
+
+    @Test
+    @DisplayName("exportProducts should write one JSON document per line when format is NDJSON")
+    void exportProducts_ShouldWriteOneDocumentPerLine_WhenFormatIsNdjson() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        productExportService.exportProducts(ExportFormatEnum.NDJSON, false, outputStream);
+
+        String content = outputStream.toString(StandardCharsets.UTF_8);
+        String[] lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(content.endsWith("}\n"));
+        assertEquals(product.getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals(productWithQuotes.getName(), objectMapper.readTree(lines[1]).get("name").asText());
+        verify(productRepository).streamListing(ArgumentMatchers.<Specification<Product>>any(), eq(Sort.by("id")), anyInt());
+    }
+
+    @Test
+    @DisplayName("exportProducts should write an empty body when there are no products and format is NDJSON")
+    void exportProducts_ShouldWriteEmptyBody_WhenNoProductsAndFormatIsNdjson() throws Exception {
+        when(productRepository.streamListing(any(), any(Sort.class), anyInt())).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        productExportService.exportProducts(ExportFormatEnum.NDJSON, false, outputStream);
+
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    @DisplayName("exportProducts should quote CSV values that contain commas or quotes")
+    void exportProducts_ShouldQuoteValues_WhenFormatIsCsv() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        productExportService.exportProducts(ExportFormatEnum.CSV, true, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[2].startsWith("2,\"Caneca \"\"Grande\"\"\",\"Cerâmica, 350ml\",30,30,0,true,,,,false,"));
+        verify(productRepository).streamListing(isNull(), eq(Sort.by("id")), anyInt());
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.imports.ProductImportErrorDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.imports.ProductImportResultDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.enums.ExportFormatEnum;
+import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.services.exceptions.BusinessRuleException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ProductImportServiceTests {
+
+    private ProductImportService productImportService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private List<Product> savedProducts;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(
+                productRepository,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager,
+                transactionManager,
+                2,
+                10
+        );
+        savedProducts = new ArrayList<>();
+
+        when(productRepository.findExistingNormalizedNames(anyCollection())).thenReturn(List.of());
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            savedProducts.addAll(products);
+            return products;
+        });
+    }
+
+    @Test
+    @DisplayName("importProducts should save valid NDJSON rows in chunks and report invalid ones by line")
+    void importProducts_ShouldSaveValidRowsInChunks_WhenNdjsonHasValidAndInvalidRows() throws IOException {
+        String body = """
+                {"name": "Caneca Azul", "description": "Caneca de louça", "price": 29.90, "stock": 10}
+                {"name": "Caneca Verde", "price": "1.234,50", "stock": 5}
+
+                {"name": "X", "price": 10, "stock": 1}
+                {"name": "Caneca Roxa", "price": 10
+                {"name": "Caneca Preta", "price": 15, "stock": 3}
+                """;
+
+        ProductImportResultDTO result = productImportService.importProducts(ExportFormatEnum.NDJSON, stream(body));
+
+        assertEquals(5, result.processed());
+        assertEquals(3, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(4L, 5L), result.errors().stream().map(ProductImportErrorDTO::line).toList());
+        assertTrue(result.errors().get(0).errors().containsKey("name"));
+        assertTrue(result.errors().get(1).errors().containsKey("record"));
+        assertEquals(List.of("Caneca Azul", "Caneca Verde", "Caneca Preta"), savedProducts.stream().map(Product::getName).toList());
+        assertEquals(new BigDecimal("1234.50"), savedProducts.get(1).getPrice());
+        assertFalse(savedProducts.get(0).getSearchTerms().isEmpty());
+        verify(productRepository, times(2)).saveAll(anyList());
+        verify(productRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("importProducts should reject names repeated in the batch or already stored using one lookup per chunk")
+    void importProducts_ShouldRejectDuplicatedNames_WhenRepeatedInBatchOrAlreadyStored() throws IOException {
+        when(productRepository.findExistingNormalizedNames(anyCollection())).thenReturn(List.of("caneca existente"));
+        String body = """
+                {"name": "Caneca Existente", "price": 10, "stock": 1}
+                {"name": "Caneca  Nova", "price": 10, "stock": 1}
+                {"name": "caneca nova", "price": 10, "stock": 1}
+                """;
+
+        ProductImportResultDTO result = productImportService.importProducts(ExportFormatEnum.NDJSON, stream(body));
+
+        assertEquals(3, result.processed());
+        assertEquals(1, result.imported());
+        assertEquals(List.of(1L, 3L), result.errors().stream().map(ProductImportErrorDTO::line).toList());
+        assertEquals("Product with name 'Caneca Existente' already exists.", result.errors().get(0).errors().get("name"));
+        assertEquals("Caneca Nova", savedProducts.get(0).getName());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        verify(productRepository, times(1)).findExistingNormalizedNames(names.capture());
+        assertEquals(2, names.getValue().size());
+    }
+
+    @Test
+    @DisplayName("importProducts should parse quoted multiline CSV fields and report invalid values by line")
+    void importProducts_ShouldParseQuotedFields_WhenFormatIsCsv() throws IOException {
+        String body = "name,description,price,stock\r\n" +
+                "\"Caneca, Grande\",\"Linha 1\nLinha \"\"2\"\"\",\"12,90\",4\r\n" +
+                "Caneca Pequena,,abc,2\r\n" +
+                "Caneca Media,,9.90,-1\r\n";
+
+        ProductImportResultDTO result = productImportService.importProducts(ExportFormatEnum.CSV, stream(body));
+
+        assertEquals(3, result.processed());
+        assertEquals(1, result.imported());
+        assertEquals(List.of(4L, 5L), result.errors().stream().map(ProductImportErrorDTO::line).toList());
+        assertEquals("Invalid price format: abc", result.errors().get(0).errors().get("price"));
+        assertTrue(result.errors().get(1).errors().containsKey("stock"));
+        assertEquals("Caneca, Grande", savedProducts.get(0).getName());
+        assertEquals("Linha 1\nLinha \"2\"", savedProducts.get(0).getDescription());
+        assertEquals(new BigDecimal("12.90"), savedProducts.get(0).getPrice());
+    }
+
+    @Test
+    @DisplayName("importProducts should throw BusinessRuleException when CSV header misses required columns")
+    void importProducts_ShouldThrowBusinessRuleException_WhenCsvHeaderIsIncomplete() {
+        String body = "name,description\nCaneca,Sem preço\n";
+
+        assertThrows(BusinessRuleException.class, () -> productImportService.importProducts(ExportFormatEnum.CSV, stream(body)));
+        verify(productRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importProducts should mark the whole chunk as failed when the database rejects it")
+    void importProducts_ShouldFailWholeChunk_WhenDatabaseRejectsIt() throws IOException {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(productRepository).flush();
+        String body = """
+                {"name": "Caneca Azul", "price": 10, "stock": 1}
+                {"name": "Caneca Verde", "price": 10, "stock": 1}
+                """;
+
+        ProductImportResultDTO result = productImportService.importProducts(ExportFormatEnum.NDJSON, stream(body));
+
+        assertEquals(2, result.processed());
+        assertEquals(0, result.imported());
+        assertEquals(2, result.failed());
+        assertTrue(result.errors().stream().allMatch(error -> error.errors().containsKey("record")));
+    }
+
+    @Test
+    @DisplayName("importProducts should cap the reported errors while still counting every failed row")
+    void importProducts_ShouldCapReportedErrors_WhenManyRowsFail() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            body.append("{\"name\": \"X\", \"price\": 10, \"stock\": 1}\n");
+        }
+
+        ProductImportResultDTO result = productImportService.importProducts(ExportFormatEnum.NDJSON, stream(body.toString()));
+
+        assertEquals(15, result.failed());
+        assertEquals(10, result.errors().size());
+    }
+
+    @Test
+    @DisplayName("resolveFormat should throw BusinessRuleException when format is unsupported")
+    void resolveFormat_ShouldThrowBusinessRuleException_WhenFormatIsUnsupported() {
+        assertEquals(ExportFormatEnum.CSV, productImportService.resolveFormat("CSV"));
+        assertThrows(BusinessRuleException.class, () -> productImportService.resolveFormat("xml"));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
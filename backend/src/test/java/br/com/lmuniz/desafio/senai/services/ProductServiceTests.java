@@ -1,27 +1,37 @@
 package br.com.lmuniz.desafio.senai.services;
 
+import br.com.lmuniz.desafio.senai.caches.CatalogVersion;
+import br.com.lmuniz.desafio.senai.caches.CouponCache;
+import br.com.lmuniz.desafio.senai.caches.EntityCacheEvictor;
 import br.com.lmuniz.desafio.senai.domains.dtos.coupons.CouponCodeDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.discounts.DirectPercentageDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductCursor;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
 import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDiscountDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductSliceDTO;
 import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
 import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
 import br.com.lmuniz.desafio.senai.domains.entities.ProductDirectDiscountApplication;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductSearchTerm;
+import br.com.lmuniz.desafio.senai.domains.enums.ActiveDiscountEnum;
 import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import br.com.lmuniz.desafio.senai.metrics.DiscountMetrics;
 import br.com.lmuniz.desafio.senai.repositories.CouponRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductCouponApplicationRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductDirectDiscountApplicationRepository;
 import br.com.lmuniz.desafio.senai.repositories.ProductRepository;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
 import br.com.lmuniz.desafio.senai.repositories.specifications.ProductSpecification;
 import br.com.lmuniz.desafio.senai.services.exceptions.*;
 import br.com.lmuniz.desafio.senai.tests.CouponFactory;
 import br.com.lmuniz.desafio.senai.tests.ProductDiscountApplicationsFactory;
 import br.com.lmuniz.desafio.senai.tests.ProductFactory;
 import br.com.lmuniz.desafio.senai.utils.Utils;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.github.fge.jsonpatch.JsonPatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +39,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -36,21 +48,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -74,6 +91,20 @@ public class ProductServiceTests {
     @Mock
     private ProductDirectDiscountApplicationRepository productDirectDiscountApplicationRepository;
 
+    @Spy
+    private CouponCache couponCache = new CouponCache(100, Duration.ofMinutes(5));
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DiscountMetrics discountMetrics = new DiscountMetrics(meterRegistry);
+
     private String nonExistingNormalizedName;
     private String existingNormalizedName;
     private String couponValidNormalizedCode;
@@ -96,6 +127,7 @@ public class ProductServiceTests {
         product = ProductFactory.createProduct();
         product.setNormalizedName(Utils.normalizeName(product.getName()));
         coupon = CouponFactory.createCoupon();
+        coupon.setId(1L);
         coupon.setUsesCount(2);
         productDirectDiscountApplication = ProductDiscountApplicationsFactory.createProductDirectDiscountApplication(product);
         productCouponApplication = ProductDiscountApplicationsFactory.createProductCouponApplication(product, coupon);
@@ -109,6 +141,25 @@ public class ProductServiceTests {
 
         when(couponRepository.findByCode(couponValidNormalizedCode)).thenReturn(coupon);
         when(couponRepository.findByCode(couponInvalidNormalizedCode)).thenReturn(null);
+        when(couponRepository.findById(coupon.getId())).thenReturn(Optional.of(coupon));
+        when(couponRepository.getReferenceById(coupon.getId())).thenReturn(coupon);
+        when(couponRepository.incrementUsesCount(eq(coupon.getId()), eq(1), any(Instant.class))).thenAnswer(invocation -> {
+            boolean available = (!coupon.getOneShot() || coupon.getUsesCount() == 0)
+                    && (coupon.getMaxUses() == null || coupon.getUsesCount() < coupon.getMaxUses());
+            if (!available) {
+                return 0;
+            }
+            coupon.setUsesCount(coupon.getUsesCount() + 1);
+            return 1;
+        });
+        when(couponRepository.decrementUsesCount(eq(coupon.getId()), anyInt())).thenAnswer(invocation -> {
+            int amount = invocation.getArgument(1);
+            if (coupon.getUsesCount() < amount) {
+                return 0;
+            }
+            coupon.setUsesCount(coupon.getUsesCount() - amount);
+            return 1;
+        });
 
         when(productCouponApplicationRepository.save(any(ProductCouponApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(productDirectDiscountApplicationRepository.save(any(ProductDirectDiscountApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -128,6 +179,20 @@ public class ProductServiceTests {
         assertEquals(product.getPrice().setScale(2, RoundingMode.HALF_UP), result.price().setScale(2, RoundingMode.HALF_UP));
     }
 
+    @Test
+    @DisplayName("create product should index name and description terms with name terms weighted higher")
+    void createProduct_ShouldIndexSearchTerms_WhenProductIsCreated() {
+        ProductDTO dto = new ProductDTO(null, "Café Premium", "Café torrado em grãos", 10, BigDecimal.TEN);
+        ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
+
+        productService.createProduct(dto);
+
+        verify(productRepository).save(captor.capture());
+        Map<String, Integer> weights = captor.getValue().getSearchTerms().stream()
+                .collect(Collectors.toMap(ProductSearchTerm::getTerm, ProductSearchTerm::getWeight));
+        assertEquals(Map.of("cafe", 4, "premium", 3, "torrado", 1, "em", 1, "graos", 1), weights);
+    }
+
     @Test
     @DisplayName("create product should throw ResourceNotFoundException when normalized name exists")
     void createProduct_ShouldThrowResourceConflictException_WhenExistingNormalizedName() {
@@ -141,14 +206,13 @@ public class ProductServiceTests {
     @Test
     @DisplayName("product soft delete shoud do nothing when id exists and has coupon discount")
     void softDelete_ShouldDoNothing_WhenIdExistsAndHasCouponDiscount(){
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(productCouponApplication);
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
+        product.setActiveCouponApplication(productCouponApplication);
 
-        productService.softDeleteProduct(existingId);
+        productService.softDeleteProduct(existingId, null);
 
-        verify(productRepository, times(2)).findById(existingId);
+        verify(productRepository, times(1)).findById(existingId);
         verify(productRepository, times(1)).save(any(Product.class));
-        verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(couponRepository, times(1)).decrementUsesCount(coupon.getId(), 1);
         verify(productCouponApplicationRepository, times(1)).save(any(ProductCouponApplication.class));
         verify(productDirectDiscountApplicationRepository, times(0)).save(any(ProductDirectDiscountApplication.class));
     }
@@ -156,23 +220,32 @@ public class ProductServiceTests {
     @Test
     @DisplayName("product soft delete shoud do nothing when id exists and has direct discount")
     void softDelete_ShouldDoNothing_WhenIdExistsAndHasDirectDiscount(){
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(productDirectDiscountApplication);
+        product.setActiveDirectDiscountApplication(productDirectDiscountApplication);
 
-        productService.softDeleteProduct(existingId);
+        productService.softDeleteProduct(existingId, null);
 
-        verify(productRepository, times(2)).findById(existingId);
+        verify(productRepository, times(1)).findById(existingId);
         verify(productRepository, times(1)).save(any(Product.class));
-        verify(couponRepository, times(0)).save(any(Coupon.class));
+        verify(couponRepository, times(0)).decrementUsesCount(anyLong(), anyInt());
         verify(productCouponApplicationRepository, times(0)).save(any(ProductCouponApplication.class));
         verify(productDirectDiscountApplicationRepository, times(1)).save(any(ProductDirectDiscountApplication.class));
     }
 
+    @Test
+    @DisplayName("product soft delete should throw PreconditionFailedException when If-Match does not match the current version")
+    void softDelete_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale(){
+        assertThrows(PreconditionFailedException.class, () -> {
+            productService.softDeleteProduct(existingId, "\"7\"");
+        });
+
+        verify(productRepository, times(0)).save(any(Product.class));
+    }
+
     @Test
     @DisplayName("product soft delete shoud throw ResourceNotFoundException when id does not exists")
     void softDelete_ShouldThrowResourceNotFoundException_WhenIdDoNotExists(){
         assertThrows(ResourceNotFoundException.class, () -> {
-            productService.softDeleteProduct(nonExistingId);
+            productService.softDeleteProduct(nonExistingId, null);
         });
 
         verify(productRepository, times(1)).findById(nonExistingId);
@@ -182,7 +255,7 @@ public class ProductServiceTests {
     @Test
     @DisplayName("product soft delete shoud do nothing when id exists and has no discounts")
     void softDelete_ShouldDoNothing_WhenIdExistsAndHasNoDiscounts(){
-        productService.softDeleteProduct(existingId);
+        productService.softDeleteProduct(existingId, null);
 
         verify(productRepository, times(1)).findById(existingId);
         verify(productRepository, times(1)).save(any(Product.class));
@@ -256,6 +329,36 @@ public class ProductServiceTests {
 
         verify(couponRepository, times(1)).findByCode(couponInvalidNormalizedCode);
         verify(productRepository, never()).findById(existingId);
+        assertEquals(1, rejections("not_found"));
+    }
+
+    @Test
+    @DisplayName("apply coupon discount should query unknown coupon code only once when applied repeatedly")
+    void applyCouponDiscount_ShouldCacheMissingCoupon_WhenCouponCodeIsRepeated() {
+        CouponCodeDTO couponCodeDTO = new CouponCodeDTO(couponInvalidNormalizedCode);
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.applyCouponDiscount(existingId, couponCodeDTO));
+        assertThrows(ResourceNotFoundException.class, () -> productService.applyCouponDiscount(existingId, couponCodeDTO));
+
+        verify(couponRepository, times(1)).findByCode(couponInvalidNormalizedCode);
+        verify(productRepository, never()).findById(existingId);
+    }
+
+    @Test
+    @DisplayName("apply coupon discount should reuse cached coupon and redeem it atomically on every application")
+    void applyCouponDiscount_ShouldReuseCachedCoupon_WhenCouponCodeIsRepeated() {
+        CouponCodeDTO couponCodeDTO = new CouponCodeDTO(couponValidNormalizedCode);
+
+        productService.applyCouponDiscount(existingId, couponCodeDTO);
+        product.setActiveCouponApplication(null);
+        productService.applyCouponDiscount(existingId, couponCodeDTO);
+
+        verify(couponRepository, times(1)).findByCode(couponValidNormalizedCode);
+        verify(couponRepository, times(2)).incrementUsesCount(eq(coupon.getId()), eq(1), any(Instant.class));
+        verify(couponRepository, never()).findById(coupon.getId());
+        verify(couponRepository, never()).save(any(Coupon.class));
+        assertEquals(4, coupon.getUsesCount());
+        assertEquals(2, meterRegistry.get("coupon.redemptions").tag("mode", "single").counter().count());
     }
 
     @Test
@@ -302,8 +405,29 @@ public class ProductServiceTests {
             productService.applyCouponDiscount(existingId, couponCodeDTO);
         });
 
-        verify(productRepository, never()).findById(existingId);
+        verify(productRepository, times(1)).findById(existingId);
         verify(couponRepository, times(1)).findByCode(couponValidNormalizedCode);
+        assertEquals(1, rejections("one_shot_used"));
+    }
+
+    @Test
+    @DisplayName("apply coupon discount should throw BusinessRuleException when a concurrent redemption takes the last use")
+    void applyCouponDiscount_ShouldThrowBusinessRuleException_WhenConditionalRedemptionUpdatesNoRows() {
+        CouponCodeDTO couponCodeDTO = new CouponCodeDTO(couponValidNormalizedCode);
+        coupon.setMaxUses(3);
+        when(couponRepository.incrementUsesCount(eq(coupon.getId()), eq(1), any(Instant.class))).thenReturn(0);
+
+        assertThrows(BusinessRuleException.class, () -> {
+            productService.applyCouponDiscount(existingId, couponCodeDTO);
+        });
+
+        InOrder inOrder = inOrder(productRepository, productCouponApplicationRepository, couponRepository);
+        inOrder.verify(productRepository).findById(existingId);
+        inOrder.verify(productCouponApplicationRepository).save(any(ProductCouponApplication.class));
+        inOrder.verify(couponRepository).incrementUsesCount(eq(coupon.getId()), eq(1), any(Instant.class));
+        inOrder.verify(couponRepository).findById(coupon.getId());
+        assertEquals(1, rejections("usage_limit_reached"));
+        assertEquals(0, meterRegistry.get("coupon.redemptions").tag("mode", "single").counter().count());
     }
 
     @ParameterizedTest(name = "applyCouponDiscount should throw BusinessRuleException {0}")
@@ -331,13 +455,6 @@ public class ProductServiceTests {
                         "when coupon is soft-deleted",
                         (Consumer<Coupon>) coupon -> coupon.setDeletedAt(Instant.now())
                 ),
-                Arguments.of(
-                        "when coupon usage limit is reached",
-                        (Consumer<Coupon>) coupon -> {
-                            coupon.setMaxUses(10);
-                            coupon.setUsesCount(10);
-                        }
-                ),
                 Arguments.of(
                         "when coupon is expired",
                         (Consumer<Coupon>) coupon -> {
@@ -357,8 +474,6 @@ public class ProductServiceTests {
     @MethodSource("provideValidCouponScenarios")
     @DisplayName("applyCouponDiscount should return product dto for valid coupon and product states")
     void applyCouponDiscount_ShouldApplyCouponDiscount_WhenProductAndCouponAndProductHasNoDiscount(String scenarioName, Consumer<Coupon> couponSetup) {
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
         Coupon testCoupon = this.coupon;
 
         couponSetup.accept(testCoupon);
@@ -373,6 +488,8 @@ public class ProductServiceTests {
         assertNotNull(result.discount());
         assertEquals(existingId, result.id());
         assertEquals(coupon.getValue(), result.discount().value());
+        assertEquals(result.finalPrice(), product.getFinalPrice());
+        assertEquals(ActiveDiscountEnum.COUPON, product.getActiveDiscountType());
     }
 
     private static Stream<Arguments> provideValidCouponScenarios() {
@@ -437,7 +554,7 @@ public class ProductServiceTests {
     @DisplayName("apply direct discount should throw ResourceConflictException when product already has direct discount")
     void applyDirectDiscount_ShouldThrowResourceConflictException_WhenProductAlreadyHasDirectDiscount() {
         DirectPercentageDiscountDTO directPercentageDiscountDTO = new DirectPercentageDiscountDTO(BigDecimal.valueOf(10));
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(productDirectDiscountApplication);
+        product.setActiveDirectDiscountApplication(productDirectDiscountApplication);
         when(productRepository.findById(existingId)).thenReturn(Optional.of(product));
 
         assertThrows(ResourceConflictException.class, () -> {
@@ -445,14 +562,14 @@ public class ProductServiceTests {
         });
 
         verify(productRepository, times(1)).findById(existingId);
-        verify(productDirectDiscountApplicationRepository, times(1)).findByProductIdAndRemovedAtIsNull(existingId);
+        verify(productDirectDiscountApplicationRepository, never()).save(any(ProductDirectDiscountApplication.class));
     }
 
     @Test
     @DisplayName("apply direct discount should throw ResourceConflictException when product already has coupon discount")
     void applyDirectDiscount_ShouldThrowResourceConflictException_WhenProductAlreadyHasCouponDiscount() {
         DirectPercentageDiscountDTO directPercentageDiscountDTO = new DirectPercentageDiscountDTO(BigDecimal.valueOf(10));
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(productCouponApplication);
+        product.setActiveCouponApplication(productCouponApplication);
         when(productRepository.findById(existingId)).thenReturn(Optional.of(product));
 
         assertThrows(ResourceConflictException.class, () -> {
@@ -460,15 +577,13 @@ public class ProductServiceTests {
         });
 
         verify(productRepository, times(1)).findById(existingId);
-        verify(productCouponApplicationRepository, times(1)).findByProductIdAndRemovedAtIsNull(existingId);
+        verify(productDirectDiscountApplicationRepository, never()).save(any(ProductDirectDiscountApplication.class));
     }
 
     @Test
     @DisplayName("apply direct discount should apply discount successfully when product is valid and has no discounts")
     void applyDirectDiscount_ShouldApplyDirectDiscount_WhenProductValidAndDiscountAreValid() {
         DirectPercentageDiscountDTO directPercentageDiscountDTO = new DirectPercentageDiscountDTO(BigDecimal.valueOf(10));
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
         when(productRepository.findById(existingId)).thenReturn(Optional.of(product));
 
         ProductDiscountDTO result = assertDoesNotThrow(() -> {
@@ -478,6 +593,22 @@ public class ProductServiceTests {
         assertNotNull(result);
         assertEquals(existingId, result.id());
         assertEquals(directPercentageDiscountDTO.percentage(), result.discount().value());
+        assertEquals(new BigDecimal("90.00"), product.getFinalPrice());
+        assertEquals(ActiveDiscountEnum.DIRECT, product.getActiveDiscountType());
+    }
+
+    @Test
+    @DisplayName("remove discount should restore final price to list price when direct discount is removed")
+    void removeDiscount_ShouldRestoreFinalPrice_WhenDirectDiscountIsRemoved() {
+        product.setFinalPrice(new BigDecimal("90.00"));
+        product.setActiveDiscountType(ActiveDiscountEnum.DIRECT);
+        product.setActiveDirectDiscountApplication(productDirectDiscountApplication);
+
+        productService.removeDiscount(existingId);
+
+        assertNotNull(productDirectDiscountApplication.getRemovedAt());
+        assertEquals(product.getPrice(), product.getFinalPrice());
+        assertEquals(ActiveDiscountEnum.NONE, product.getActiveDiscountType());
     }
 
     @Test
@@ -495,37 +626,49 @@ public class ProductServiceTests {
     void removeDiscount_ShouldThrowDatabaseException_WhenCouponAppliedAndUsesCountIsZero() {
         coupon.setUsesCount(0);
         productCouponApplication.setCoupon(coupon);
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(productCouponApplication);
+        product.setActiveCouponApplication(productCouponApplication);
 
         assertThrows(DatabaseException.class, () -> {
             productService.removeDiscount(existingId);
         });
 
         verify(productRepository, times(1)).findById(existingId);
-        verify(productCouponApplicationRepository, times(1)).findByProductIdAndRemovedAtIsNull(existingId);
+        verify(productCouponApplicationRepository, never()).save(any(ProductCouponApplication.class));
+    }
+
+    @Test
+    @DisplayName("remove discount should report the stored uses count when the coupon release affects no row")
+    void removeDiscount_ShouldReportStoredUsesCount_WhenCouponReleaseAffectsNoRow() {
+        coupon.setUsesCount(1);
+        productCouponApplication.setCoupon(coupon);
+        product.setActiveCouponApplication(productCouponApplication);
+        when(couponRepository.decrementUsesCount(coupon.getId(), 1)).thenReturn(0);
+        when(couponRepository.findUsesCountById(coupon.getId())).thenReturn(0);
+
+        DatabaseException exception = assertThrows(DatabaseException.class, () -> productService.removeDiscount(existingId));
+
+        assertTrue(exception.getMessage().endsWith("Current count is 0."));
+        verify(couponRepository).findUsesCountById(coupon.getId());
     }
 
     @Test
     @DisplayName("remove discount should throw BusinessRuleException when product has no discount applied")
     void removeDiscount_ShouldThrowBusinessRuleException_WhenNoDiscountsApplied() {
-        when(productCouponApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
-        when(productDirectDiscountApplicationRepository.findByProductIdAndRemovedAtIsNull(existingId)).thenReturn(null);
 
         assertThrows(BusinessRuleException.class, () -> {
             productService.removeDiscount(existingId);
         });
 
         verify(productRepository, times(1)).findById(existingId);
-        verify(productCouponApplicationRepository, times(1)).findByProductIdAndRemovedAtIsNull(existingId);
-        verify(productDirectDiscountApplicationRepository, times(1)).findByProductIdAndRemovedAtIsNull(existingId);
+        verifyNoInteractions(productCouponApplicationRepository, productDirectDiscountApplicationRepository);
     }
 
     @Test
     @DisplayName("partial update should throw ResourceNotFoundException when product id does not exist")
     void partialUpdate_shouldThrowResourceNotFoundException_whenProductIdDoesNotExist() {
-        JsonPatch patch = new JsonPatch(List.of());
+        JsonNode patch = objectMapper.createArrayNode();
 
-        assertThrows(ResourceNotFoundException.class, () -> productService.partialUpdateProduct(nonExistingId, patch));
+        assertThrows(ResourceNotFoundException.class, () -> productService.partialUpdateProduct(nonExistingId, patch, null));
 
         verify(productRepository, times(1)).findById(nonExistingId);
         verify(productRepository, never()).saveAndFlush(any(Product.class));
@@ -540,10 +683,10 @@ public class ProductServiceTests {
                 ]
                 """;
 
-        JsonPatch invalidPatch = JsonPatch.fromJson(objectMapper.readTree(invalidPatchJson));
+        JsonNode invalidPatch = objectMapper.readTree(invalidPatchJson);
 
         assertThrows(BusinessRuleException.class, () -> {
-            productService.partialUpdateProduct(existingId, invalidPatch);
+            productService.partialUpdateProduct(existingId, invalidPatch, null);
         });
         verify(productRepository, times(1)).findById(existingId);
         verify(productRepository, never()).saveAndFlush(any(Product.class));
@@ -555,10 +698,10 @@ public class ProductServiceTests {
     void partialUpdate_shouldThrowBusinessRuleException_whenBusinessRuleInvalidPatch(
             String scenarioName, String patchJson, List<String> expectedErrorKeys) throws Exception {
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         BusinessRuleException exceptionResult = assertThrows(BusinessRuleException.class, () -> {
-            productService.partialUpdateProduct(existingId, patch);
+            productService.partialUpdateProduct(existingId, patch, null);
         });
 
         Map<String, String> errors = exceptionResult.getErrors();
@@ -632,10 +775,10 @@ public class ProductServiceTests {
                 ]
                 """.formatted(existingNormalizedName);
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
         assertThrows(ResourceConflictException.class, () -> {
-            productService.partialUpdateProduct(existingId, patch);
+            productService.partialUpdateProduct(existingId, patch, null);
         });
 
         verify(productRepository, times(1)).findById(existingId);
@@ -648,9 +791,9 @@ public class ProductServiceTests {
     void partialUpdate_shouldUpdateProductSuccessfully_forValidScenarios(
             String scenarioName, String patchJson, Consumer<ProductDTO> assertionLogic) throws Exception {
 
-        JsonPatch patch = JsonPatch.fromJson(objectMapper.readTree(patchJson));
+        JsonNode patch = objectMapper.readTree(patchJson);
 
-        ProductDTO updatedProduct = productService.partialUpdateProduct(existingId, patch);
+        ProductDTO updatedProduct = productService.partialUpdateProduct(existingId, patch, null);
 
         assertNotNull(updatedProduct);
 
@@ -692,9 +835,9 @@ public class ProductServiceTests {
     }
 
     @Test
-    @DisplayName("findAllProducts should return page of products filtered when given params")
-    void findAllProducts_ShouldReturnPageOfProductsFiltered_WhenGivenParams() {
-        Pageable pageable = PageRequest.of(0, 10);
+    @DisplayName("findAllProducts should return the database page as is when discount filters are given")
+    void findAllProducts_ShouldReturnDatabasePage_WhenDiscountFiltersAreGiven() {
+        Pageable pageable = PageRequest.of(0, 2);
         String search = "teste";
         BigDecimal minPrice = BigDecimal.ONE;
         BigDecimal maxPrice = BigDecimal.valueOf(100);
@@ -703,27 +846,65 @@ public class ProductServiceTests {
         Boolean onlyOutOfStock = false;
         Boolean withCouponApplied = true;
 
-        Product productWithDirectDiscount = ProductFactory.createProduct(2L, "Test Product 2", "Another test product", BigDecimal.valueOf(50), 0);
-        Product productWithNoDiscount = ProductFactory.createProduct(3L, "Test Product 3", "Another test product no discount", BigDecimal.valueOf(40), 12);
-        productDirectDiscountApplication.setProduct(productWithDirectDiscount);
-
-        when(productCouponApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(any())).thenReturn(List.of(productCouponApplication));
-        when(productDirectDiscountApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(any())).thenReturn(List.of(productDirectDiscountApplication));
+        Product otherProductWithCoupon = ProductFactory.createProduct(2L, "Test Product 2", "Another test product", BigDecimal.valueOf(50), 0);
+        ProductCouponApplication otherCouponApplication = ProductDiscountApplicationsFactory.createProductCouponApplication(otherProductWithCoupon, coupon);
 
-        Page<Product> productPage = new PageImpl<>(List.of(product, productWithDirectDiscount, productWithNoDiscount));
-        when(productRepository.findAll((Specification<Product>) any(), (Pageable) any())).thenReturn(productPage);
+        Page<ProductListingProjection> productPage = new PageImpl<>(List.of(
+                ProductFactory.createListingProjection(productCouponApplication),
+                ProductFactory.createListingProjection(otherCouponApplication)), pageable, 5);
+        when(productRepository.findListing(any(Specification.class), any(Pageable.class))).thenReturn(productPage);
 
         Page<ProductDiscountDTO> result = productService.getAllProducts(
                 pageable, search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied);
 
         assertNotNull(result);
-        assertEquals(productPage.getTotalElements() - 2, result.getTotalElements());
+        assertEquals(productPage.getTotalElements(), result.getTotalElements());
         assertEquals(productPage.getTotalPages(), result.getTotalPages());
+        assertEquals(pageable.getPageSize(), result.getNumberOfElements());
         assertEquals(product.getName(), result.getContent().getFirst().name());
+        assertTrue(result.getContent().stream().allMatch(ProductDiscountDTO::hasCouponApplied));
+
+        verify(productRepository, times(1)).findListing(any(Specification.class), any(Pageable.class));
+    }
+
 
-        verify(productRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+    @Test
+    @DisplayName("getProductsAfter should return next cursor when there are more products than the page size")
+    void getProductsAfter_ShouldReturnNextCursor_WhenMoreProductsThanSize() {
+        Product second = ProductFactory.createProduct(2L, "Test Product 2", "Desc", BigDecimal.valueOf(50), 3);
+        Product third = ProductFactory.createProduct(3L, "Test Product 3", "Desc", BigDecimal.valueOf(60), 3);
+        when(productRepository.findListing(any(Specification.class), any(Sort.class), anyInt())).thenReturn(Stream.of(product, second, third)
+                .map(ProductFactory::createListingProjection)
+                .toList());
+
+        ProductSliceDTO result = productService.getProductsAfter(
+                "", 2, Sort.by("price"), null, null, null, null, false, null, null);
+
+        assertFalse(result.last());
+        assertEquals(2, result.numberOfElements());
+        ProductCursor cursor = ProductCursor.decode(result.next());
+        assertEquals("price", cursor.property());
+        assertEquals(second.getId(), cursor.id());
+        assertEquals(0, second.getPrice().compareTo(new BigDecimal(cursor.value())));
+        verify(productRepository).findListing(any(Specification.class), eq(Sort.by("price", "id")), eq(3));
+        verify(productRepository, never()).findListing(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getProductsAfter should throw BusinessRuleException when cursor is invalid")
+    void getProductsAfter_ShouldThrowBusinessRuleException_WhenCursorIsInvalid() {
+        assertThrows(BusinessRuleException.class, () -> productService.getProductsAfter(
+                "not-a-cursor", 2, Sort.unsorted(), null, null, null, null, false, null, null));
+
+        verify(productRepository, never()).findListing(any(Specification.class), any(Sort.class), anyInt());
     }
 
+    @Test
+    @DisplayName("getProductsAfter should throw BusinessRuleException when sort property is not supported")
+    void getProductsAfter_ShouldThrowBusinessRuleException_WhenSortPropertyIsNotSupported() {
+        assertThrows(BusinessRuleException.class, () -> productService.getProductsAfter(
+                "", 2, Sort.by("description"), null, null, null, null, false, null, null));
+    }
 
     @ParameterizedTest(name = "getAllProducts should return page {0}")
     @MethodSource("provideGetAllProductsScenarios")
@@ -742,11 +923,8 @@ public class ProductServiceTests {
             Consumer<Page<ProductDiscountDTO>> assertionLogic
     ) {
 
-        when(productRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(mockedProductPage);
-
-        when(productCouponApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(any())).thenReturn(List.of());
-        when(productDirectDiscountApplicationRepository.findAllByProductIdInAndRemovedAtIsNull(any())).thenReturn(List.of());
+        when(productRepository.findListing(any(Specification.class), any(Pageable.class)))
+                .thenReturn(mockedProductPage.map(ProductFactory::createListingProjection));
 
         Page<ProductDiscountDTO> result = productService.getAllProducts(
                 pageable, search, minPrice, maxPrice, hasDiscount, includeDeleted, onlyOutOfStock, withCouponApplied);
@@ -754,7 +932,7 @@ public class ProductServiceTests {
         assertNotNull(result);
 
         assertionLogic.accept(result);
-        verify(productRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        verify(productRepository, times(1)).findListing(any(Specification.class), any(Pageable.class));
     }
 
     private static Stream<Arguments> provideGetAllProductsScenarios() {
@@ -787,9 +965,13 @@ public class ProductServiceTests {
                         pageable, "product", null, null, true, false, false, null,
                         (Consumer<Page<ProductDiscountDTO>>) page -> {
                             assertEquals(2, page.getTotalElements());
-                            assertTrue(page.getContent().stream().allMatch(p -> p.discount() != null));
+                            assertEquals(2, page.getNumberOfElements());
                         }
                 )
         );
     }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("coupon.rejections").tag("reason", reason).counter().count();
+    }
 }
@@ -0,0 +1,126 @@
+package br.com.lmuniz.desafio.senai.services;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
+import br.com.lmuniz.desafio.senai.domains.dtos.seeds.SyntheticDataResultDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic-data",
+        "synthetic-data.products=3000",
+        "synthetic-data.coupons=60",
+        "synthetic-data.batch-size=700",
+        "synthetic-data.seed=7"
+})
+@ActiveProfiles({"dev", "synthetic"})
+@DirtiesContext
+public class SyntheticDataServiceIT {
+
+    private static final int PRODUCTS = 3000;
+    private static final int COUPONS = 60;
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("synthetic profile should replace the seed script with the configured amount of generated rows")
+    void syntheticProfile_ShouldLoadConfiguredRowCounts() {
+        assertEquals(PRODUCTS, count("SELECT COUNT(*) FROM products"));
+        assertEquals(COUPONS, count("SELECT COUNT(*) FROM coupons"));
+        assertTrue(count("SELECT COUNT(*) FROM product_search_terms") > PRODUCTS);
+        assertTrue(count("SELECT COUNT(*) FROM product_coupon_applications WHERE removed_at IS NOT NULL") > 0);
+        assertTrue(count("SELECT COUNT(*) FROM product_direct_discount_applications WHERE removed_at IS NOT NULL") > 0);
+        assertEquals(0, count("SELECT COUNT(*) FROM products p WHERE NOT EXISTS (SELECT 1 FROM product_search_terms t WHERE t.product_id = p.id)"));
+    }
+
+    @Test
+    @DisplayName("generated products should match their active coupon and direct discount applications")
+    void syntheticProfile_ShouldKeepActiveDiscountsConsistent() {
+        assertEquals(
+                count("SELECT COUNT(*) FROM products WHERE active_discount_type = 'COUPON'"),
+                count("SELECT COUNT(*) FROM product_coupon_applications WHERE removed_at IS NULL"));
+        assertEquals(
+                count("SELECT COUNT(*) FROM products WHERE active_discount_type = 'DIRECT'"),
+                count("SELECT COUNT(*) FROM product_direct_discount_applications WHERE removed_at IS NULL"));
+        assertTrue(count("SELECT COUNT(*) FROM products WHERE active_discount_type = 'COUPON'") > 0);
+        assertTrue(count("SELECT COUNT(*) FROM products WHERE active_discount_type = 'DIRECT'") > 0);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM products WHERE deleted_at IS NOT NULL AND active_discount_type <> 'NONE'"));
+        assertEquals(0, count("SELECT COUNT(*) FROM products WHERE final_price < 0.01 OR final_price > price"));
+        assertEquals(0, count("SELECT COUNT(*) FROM products WHERE active_discount_type = 'NONE' AND final_price <> price"));
+        assertEquals(0, count("SELECT COUNT(*) FROM product_coupon_applications a JOIN coupons c ON c.id = a.coupon_id " +
+                "WHERE a.removed_at IS NULL AND (c.deleted_at IS NOT NULL OR c.one_shot OR c.valid_until < NOW())"));
+        assertEquals(0, count("SELECT COUNT(*) FROM product_coupon_applications WHERE removed_at < applied_at"));
+    }
+
+    @Test
+    @DisplayName("generated coupons should count every application and keep max uses above the usage count")
+    void syntheticProfile_ShouldTrackCouponUsage() {
+        assertEquals(
+                count("SELECT COUNT(*) FROM product_coupon_applications"),
+                count("SELECT COALESCE(SUM(uses_count), 0) FROM coupons"));
+        assertEquals(0, count("SELECT COUNT(*) FROM coupons WHERE max_uses IS NOT NULL AND max_uses < uses_count"));
+        assertEquals(0, count("SELECT COUNT(*) FROM coupons WHERE one_shot AND (max_uses IS NOT NULL OR uses_count > 0)"));
+        assertEquals(COUPONS, count("SELECT COUNT(DISTINCT code) FROM coupons"));
+    }
+
+    @Test
+    @DisplayName("products created after generation should get ids after the generated range")
+    void createProduct_ShouldNotCollideWithGeneratedIds() {
+        ProductDTO created = productService.createProduct(
+                new ProductDTO(null, "Produto Após Geração", null, 5, new BigDecimal("19.90")));
+
+        assertTrue(created.id() > PRODUCTS);
+        jdbcTemplate.update("DELETE FROM product_search_terms WHERE product_id = ?", created.id());
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", created.id());
+    }
+
+    @Test
+    @DisplayName("generate should refuse a catalog that already has data and produce the same rows for the same seed")
+    void generate_ShouldBeRepeatableForTheSameSeed() {
+        List<Map<String, Object>> products = jdbcTemplate.queryForList(
+                "SELECT name, normalized_name, description, price, final_price, active_discount_type, stock FROM products ORDER BY id");
+        List<Map<String, Object>> coupons = jdbcTemplate.queryForList(
+                "SELECT code, type, coupon_value, one_shot, max_uses, uses_count FROM coupons ORDER BY id");
+        long searchTerms = count("SELECT COUNT(*) FROM product_search_terms");
+
+        assertThrows(IllegalStateException.class, () -> syntheticDataService.generate());
+
+        jdbcTemplate.execute("DELETE FROM product_search_terms");
+        jdbcTemplate.execute("UPDATE products SET active_coupon_application_id = NULL, active_direct_discount_application_id = NULL");
+        jdbcTemplate.execute("DELETE FROM product_coupon_applications");
+        jdbcTemplate.execute("DELETE FROM product_direct_discount_applications");
+        jdbcTemplate.execute("DELETE FROM products");
+        jdbcTemplate.execute("DELETE FROM coupons");
+
+        SyntheticDataResultDTO result = syntheticDataService.generate();
+
+        assertEquals(PRODUCTS, result.products());
+        assertEquals(searchTerms, result.searchTerms());
+        assertEquals(products, jdbcTemplate.queryForList(
+                "SELECT name, normalized_name, description, price, final_price, active_discount_type, stock FROM products ORDER BY id"));
+        assertEquals(coupons, jdbcTemplate.queryForList(
+                "SELECT code, type, coupon_value, one_shot, max_uses, uses_count FROM coupons ORDER BY id"));
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
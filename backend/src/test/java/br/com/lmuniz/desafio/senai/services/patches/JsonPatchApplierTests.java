@@ -0,0 +1,212 @@
+package br.com.lmuniz.desafio.senai.services.patches;
+
+import br.com.lmuniz.desafio.senai.domains.dtos.products.ProductDTO;
+import br.com.lmuniz.desafio.senai.domains.entities.Coupon;
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.fge.jsonpatch.JsonPatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonPatchApplierTests {
+
+    private ObjectMapper objectMapper;
+    private JsonPatchApplier<ProductDTO> productPatchApplier;
+    private JsonPatchApplier<Coupon> couponPatchApplier;
+    private ProductDTO product;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        productPatchApplier = PatchAppliers.product(objectMapper);
+        couponPatchApplier = PatchAppliers.coupon(objectMapper);
+
+        product = new ProductDTO(5L, "Chaleira Elétrica Inox", "Capacidade de 1.7 litros, desligamento automático.", 30, new BigDecimal("149.99"));
+
+        coupon = new Coupon("promo10", CouponEnum.PERCENT, new BigDecimal("10.00"), false, 100,
+                Instant.parse("2026-01-01T10:15:30.123456Z"), Instant.parse("2026-12-31T23:59:59Z"));
+        coupon.setId(1L);
+        coupon.setUsesCount(10);
+        coupon.setCreatedAt(Instant.parse("2025-12-01T00:00:00Z"));
+    }
+
+    @ParameterizedTest
+    @DisplayName("product patch applier should produce the same ProductDTO as the generic tree round-trip")
+    @ValueSource(strings = {
+            "[{\"op\": \"replace\", \"path\": \"/name\", \"value\": \"Chaleira Nova\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": 25.5}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": \"1.234,56\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": \"99.90\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": null}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": \"12,3,4\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/price\", \"value\": true}]",
+            "[{\"op\": \"replace\", \"path\": \"/stock\", \"value\": \"12\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/stock\", \"value\": 12.7}]",
+            "[{\"op\": \"replace\", \"path\": \"/stock\", \"value\": \"abc\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/name\", \"value\": 123}]",
+            "[{\"op\": \"replace\", \"path\": \"/id\", \"value\": 99}]",
+            "[{\"op\": \"remove\", \"path\": \"/description\"}]",
+            "[{\"op\": \"add\", \"path\": \"/description\", \"value\": \"Nova descrição\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/name\", \"value\": \"Chaleira\"}, {\"op\": \"replace\", \"path\": \"/stock\", \"value\": 0}, {\"op\": \"replace\", \"path\": \"/price\", \"value\": \"10,00\"}]",
+            "[{\"op\": \"test\", \"path\": \"/stock\", \"value\": 30}, {\"op\": \"replace\", \"path\": \"/stock\", \"value\": 31}]",
+            "[{\"op\": \"move\", \"from\": \"/description\", \"path\": \"/name\"}]",
+            "[{\"op\": \"copy\", \"from\": \"/name\", \"path\": \"/description\"}]",
+            "[{\"op\": \"remove\", \"path\": \"/description\"}, {\"op\": \"add\", \"path\": \"/description\", \"value\": \"x\"}]",
+            "[{\"op\": \"remove\", \"path\": \"/description\"}, {\"op\": \"replace\", \"path\": \"/description\", \"value\": \"x\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/unknown\", \"value\": 1}]",
+            "[{\"op\": \"add\", \"path\": \"/unknown\", \"value\": 1}]",
+            "[{\"op\": \"replace\", \"path\": \"\", \"value\": {}}]",
+            "[{\"op\": \"replace\", \"path\": \"/description\"}]",
+            "[{\"op\": \"add\", \"path\": \"/description\"}]"
+    })
+    void productPatchApplier_ShouldMatchGenericPath(String patchJson) throws Exception {
+        JsonNode node = objectMapper.readTree(patchJson);
+
+        Outcome expected = outcome(() -> objectMapper.treeToValue(JsonPatch.fromJson(node).apply(objectMapper.valueToTree(product)), ProductDTO.class));
+        Outcome actual = outcome(() -> {
+            Optional<ProductDTO> compiled = productPatchApplier.apply(node, product);
+            return compiled.isPresent()
+                    ? compiled.get()
+                    : objectMapper.treeToValue(JsonPatch.fromJson(node).apply(objectMapper.valueToTree(product)), ProductDTO.class);
+        });
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @DisplayName("coupon patch applier should produce the same Coupon fields as the generic tree round-trip")
+    @ValueSource(strings = {
+            "[{\"op\": \"replace\", \"path\": \"/type\", \"value\": \"fixed\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/type\", \"value\": \"bogus\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/type\", \"value\": null}]",
+            "[{\"op\": \"replace\", \"path\": \"/value\", \"value\": 25}]",
+            "[{\"op\": \"replace\", \"path\": \"/value\", \"value\": \"12.345\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/value\", \"value\": \"abc\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/oneShot\", \"value\": true}]",
+            "[{\"op\": \"replace\", \"path\": \"/oneShot\", \"value\": null}]",
+            "[{\"op\": \"replace\", \"path\": \"/oneShot\", \"value\": \"true\"}]",
+            "[{\"op\": \"remove\", \"path\": \"/oneShot\"}]",
+            "[{\"op\": \"remove\", \"path\": \"/usesCount\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/maxUses\", \"value\": null}]",
+            "[{\"op\": \"replace\", \"path\": \"/code\", \"value\": \"novo\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/validUntil\", \"value\": \"2027-06-30T12:00:00Z\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/validFrom\", \"value\": \"ontem\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/validFrom\", \"value\": 1767225600}]",
+            "[{\"op\": \"replace\", \"path\": \"/deletedAt\", \"value\": \"2026-02-01T00:00:00Z\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/value\", \"value\": 15}, {\"op\": \"replace\", \"path\": \"/validUntil\", \"value\": \"2027-01-01T00:00:00Z\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/productCouponApplications\", \"value\": []}]",
+            "[{\"op\": \"test\", \"path\": \"/code\", \"value\": \"promo10\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/unknown\", \"value\": 1}]",
+            "[{\"op\": \"replace\", \"path\": \"/maxUses\"}]",
+            "[{\"op\": \"replace\", \"path\": \"/validUntil\"}]"
+    })
+    void couponPatchApplier_ShouldMatchGenericPath(String patchJson) throws Exception {
+        JsonNode node = objectMapper.readTree(patchJson);
+
+        Outcome expected = outcome(() -> fields(objectMapper.treeToValue(JsonPatch.fromJson(node).apply(objectMapper.valueToTree(coupon)), Coupon.class)));
+        Outcome actual = outcome(() -> {
+            Optional<Coupon> compiled = couponPatchApplier.apply(node, PatchAppliers.copyOf(coupon));
+            return fields(compiled.isPresent()
+                    ? compiled.get()
+                    : objectMapper.treeToValue(JsonPatch.fromJson(node).apply(objectMapper.valueToTree(coupon)), Coupon.class));
+        });
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("apply should use the compiled path for replace, add and remove on known fields")
+    void apply_ShouldUseCompiledPath_WhenOperationsTargetKnownFields() throws Exception {
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/name", "value": "Chaleira Nova"},
+                  {"op": "add", "path": "/stock", "value": 7},
+                  {"op": "remove", "path": "/description"}
+                ]
+                """);
+
+        Optional<ProductDTO> result = productPatchApplier.apply(patch, product);
+
+        assertTrue(result.isPresent());
+        assertEquals(new ProductDTO(5L, "Chaleira Nova", null, 7, new BigDecimal("149.99")), result.get());
+    }
+
+    @Test
+    @DisplayName("apply should not touch the target and fall back when an operation is unsupported")
+    void apply_ShouldFallBack_WhenOperationIsUnsupported() throws Exception {
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/value", "value": 50},
+                  {"op": "test", "path": "/code", "value": "promo10"}
+                ]
+                """);
+
+        Optional<Coupon> result = couponPatchApplier.apply(patch, coupon);
+
+        assertTrue(result.isEmpty());
+        assertEquals(new BigDecimal("10.00"), coupon.getValue());
+    }
+
+    @Test
+    @DisplayName("apply should fall back to the generic path when a replace operation has no value")
+    void apply_ShouldFallBack_WhenReplaceHasNoValue() throws Exception {
+        JsonNode patch = objectMapper.readTree("[{\"op\": \"replace\", \"path\": \"/description\"}]");
+
+        Optional<ProductDTO> result = productPatchApplier.apply(patch, product);
+
+        assertTrue(result.isEmpty());
+        assertThrows(IOException.class, () -> JsonPatch.fromJson(patch));
+    }
+
+    @Test
+    @DisplayName("copyOf should copy every scalar coupon field")
+    void copyOf_ShouldCopyEveryScalarField() {
+        coupon.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        coupon.setDeletedAt(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        assertEquals(fields(coupon), fields(PatchAppliers.copyOf(coupon)));
+    }
+
+    private static List<Object> fields(Coupon coupon) {
+        BigDecimal value = coupon.getValue() == null ? null : coupon.getValue().stripTrailingZeros();
+        return Arrays.asList(coupon.getId(), coupon.getCode(), coupon.getType(), value, coupon.getOneShot(),
+                coupon.getMaxUses(), coupon.getUsesCount(), coupon.getValidFrom(), coupon.getValidUntil(),
+                coupon.getCreatedAt(), coupon.getUpdatedAt(), coupon.getDeletedAt());
+    }
+
+    private static Outcome outcome(ThrowingSupplier supplier) {
+        try {
+            return new Outcome(supplier.get(), null);
+        } catch (Exception e) {
+            return new Outcome(null, e instanceof JsonProcessingException ? "JsonProcessingException" : e.getClass().getSimpleName());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+
+    private record Outcome(Object value, String error) {
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.lmuniz.desafio.senai.tests;
 
 import br.com.lmuniz.desafio.senai.domains.entities.Product;
+import br.com.lmuniz.desafio.senai.domains.entities.ProductCouponApplication;
+import br.com.lmuniz.desafio.senai.repositories.projections.ProductListingProjection;
 
 import java.math.BigDecimal;
 
@@ -11,6 +13,7 @@ public class ProductFactory {
         product.setName("Test Product");
         product.setDescription("This is a test product.");
         product.setPrice(BigDecimal.valueOf(100.00));
+        product.setFinalPrice(product.getPrice());
         product.setStock(20);
 
         return product;
@@ -22,8 +25,24 @@ public class ProductFactory {
         product.setName(name);
         product.setDescription(description);
         product.setPrice(price);
+        product.setFinalPrice(price);
         product.setStock(stock);
 
         return product;
     }
+
+    public static ProductListingProjection createListingProjection(Product product) {
+        return new ProductListingProjection(product, null, null, null, null, null);
+    }
+
+    public static ProductListingProjection createListingProjection(ProductCouponApplication couponApplication) {
+        return new ProductListingProjection(
+                couponApplication.getProduct(),
+                couponApplication.getCoupon().getType(),
+                couponApplication.getCoupon().getValue(),
+                couponApplication.getAppliedAt(),
+                null,
+                null
+        );
+    }
 }
@@ -0,0 +1,56 @@
+package br.com.lmuniz.desafio.senai.tests;
+
+import br.com.lmuniz.desafio.senai.metrics.StatementCounter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        StatementCounter statementCounter = SpringExtension.getApplicationContext(context).getBean(StatementCounter.class);
+        List<StatementCounter.RequestStatements> requests = Collections.synchronizedList(new ArrayList<>());
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put("requests", requests);
+        store.put("removeListener", statementCounter.addListener(requests::add));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.remove("removeListener", Runnable.class).run();
+        @SuppressWarnings("unchecked")
+        List<StatementCounter.RequestStatements> requests = store.remove("requests", List.class);
+
+        int budget = budget(context);
+        List<StatementCounter.RequestStatements> overBudget;
+        synchronized (requests) {
+            overBudget = requests.stream().filter(request -> request.statements() > budget).toList();
+        }
+        if (!overBudget.isEmpty()) {
+            fail("SQL statement budget of " + budget + " per request exceeded:" + System.lineSeparator()
+                    + overBudget.stream()
+                    .map(request -> "  " + request.request() + " ran " + request.statements() + " statements")
+                    .collect(Collectors.joining(System.lineSeparator())));
+        }
+    }
+
+    private static int budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class))
+                .map(StatementBudget::value)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.lmuniz.desafio.senai.utils;
+
+import br.com.lmuniz.desafio.senai.domains.enums.CouponEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriceCalculatorTests {
+
+    @ParameterizedTest
+    @DisplayName("applyPercent should match price * (1 - percentage / 100) rounded HALF_UP")
+    @CsvSource({
+            "0.01, 50, 0.01",
+            "0.01, 60, 0.00",
+            "0.02, 50, 0.01",
+            "0.03, 50, 0.02",
+            "0.05, 90, 0.01",
+            "0.04, 12.5, 0.04",
+            "0.10, 95, 0.01",
+            "100.00, 33.33, 66.67",
+            "199.90, 12.75, 174.41",
+            "149.99, 25, 112.49",
+            "10.01, 0.01, 10.01",
+            "2500.00, 99.99, 0.25",
+            "89.90, 100, 0.00",
+            "0.01, 150, -0.01",
+            "0.03, 150, -0.02",
+            "12.34, 150, -6.17"
+    })
+    void applyPercent_ShouldMatchBigDecimalFormula_WhenRoundingBoundariesAreHit(String price, String percentage, String expected) {
+        BigDecimal priceValue = new BigDecimal(price);
+        BigDecimal percentageValue = new BigDecimal(percentage);
+
+        BigDecimal result = PriceCalculator.fromCents(PriceCalculator.applyPercent(
+                PriceCalculator.toCents(priceValue), PriceCalculator.toBasisPoints(percentageValue)));
+
+        assertEquals(new BigDecimal(expected), result);
+        assertEquals(percentFormula(priceValue, percentageValue), result);
+    }
+
+    @Test
+    @DisplayName("applyPercent should match the BigDecimal formula for every cent price and two-decimal percentage sampled")
+    void applyPercent_ShouldMatchBigDecimalFormula_WhenSweepingPricesAndPercentages() {
+        for (long priceCents = 1; priceCents <= 2_000; priceCents++) {
+            BigDecimal price = PriceCalculator.fromCents(priceCents);
+            for (long basisPoints = 1; basisPoints <= 10_000; basisPoints += 37) {
+                BigDecimal percentage = BigDecimal.valueOf(basisPoints, 2);
+
+                long result = PriceCalculator.applyPercent(priceCents, PriceCalculator.toBasisPoints(percentage));
+
+                assertEquals(percentFormula(price, percentage), PriceCalculator.fromCents(result), price + " - " + percentage + "%");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("applyCoupon should match plain subtraction for fixed coupons")
+    @CsvSource({
+            "100.00, 10.00, 90.00",
+            "10.00, 9.99, 0.01",
+            "10.00, 10.00, 0.00",
+            "5.50, 25.00, -19.50",
+            "0.01, 0.02, -0.01"
+    })
+    void applyCoupon_ShouldMatchSubtraction_WhenCouponIsFixed(String price, String value, String expected) {
+        BigDecimal priceValue = new BigDecimal(price);
+        BigDecimal couponValue = new BigDecimal(value);
+
+        BigDecimal result = PriceCalculator.fromCents(PriceCalculator.applyCoupon(
+                PriceCalculator.toCents(priceValue), CouponEnum.FIXED, PriceCalculator.toCents(couponValue)));
+
+        assertEquals(new BigDecimal(expected), result);
+        assertEquals(priceValue.subtract(couponValue), result);
+    }
+
+    @Test
+    @DisplayName("applyCoupon should use the percent formula for percent coupons")
+    void applyCoupon_ShouldApplyPercent_WhenCouponIsPercent() {
+        assertEquals(PriceCalculator.applyPercent(19_990, 1_000), PriceCalculator.applyCoupon(19_990, CouponEnum.PERCENT, 1_000));
+        assertEquals(17_991, PriceCalculator.applyCoupon(19_990, CouponEnum.PERCENT, 1_000));
+    }
+
+    @Test
+    @DisplayName("results around MIN_PRICE_CENTS should be classified the same way as the BigDecimal formula")
+    void applyPercent_ShouldAgreeWithMinimumPrice_WhenResultIsAroundOneCent() {
+        BigDecimal minimum = PriceCalculator.fromCents(PriceCalculator.MIN_PRICE_CENTS);
+
+        assertTrue(PriceCalculator.applyPercent(1, 5_000) >= PriceCalculator.MIN_PRICE_CENTS);
+        assertTrue(percentFormula(new BigDecimal("0.01"), BigDecimal.valueOf(50)).compareTo(minimum) >= 0);
+        assertTrue(PriceCalculator.applyPercent(1, 5_001) < PriceCalculator.MIN_PRICE_CENTS);
+        assertTrue(percentFormula(new BigDecimal("0.01"), new BigDecimal("50.01")).compareTo(minimum) < 0);
+        assertEquals(PriceCalculator.MIN_PRICE_CENTS, PriceCalculator.applyFixed(1_000, 999));
+        assertTrue(PriceCalculator.applyFixed(1_000, 1_000) < PriceCalculator.MIN_PRICE_CENTS);
+    }
+
+    @Test
+    @DisplayName("toCents should round amounts with more than two decimals HALF_UP")
+    void toCents_ShouldRoundHalfUp_WhenAmountHasMoreThanTwoDecimals() {
+        assertEquals(1, PriceCalculator.toCents(new BigDecimal("0.005")));
+        assertEquals(0, PriceCalculator.toCents(new BigDecimal("0.004")));
+        assertEquals(-1, PriceCalculator.toCents(new BigDecimal("-0.005")));
+        assertEquals(12_346, PriceCalculator.toCents(new BigDecimal("123.455")));
+        assertEquals(new BigDecimal("123.46"), PriceCalculator.fromCents(12_346));
+    }
+
+    private static BigDecimal percentFormula(BigDecimal price, BigDecimal percentage) {
+        BigDecimal discountFactor = BigDecimal.ONE.subtract(percentage.divide(BigDecimal.valueOf(100)));
+        return price.multiply(discountFactor).setScale(2, RoundingMode.HALF_UP);
+    }
+}
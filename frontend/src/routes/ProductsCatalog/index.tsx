@@ -13,44 +13,47 @@ type QueryParams = {
   minPrice: string,
   maxPrice: string,
   searchText: string,
-  page: number,
+  after: string,
   hasDiscount: boolean
 }
 
 export default function ProductsCatalog() {
   const [isLastPage, setIsLastPage] = useState(false);
 
+  const [nextCursor, setNextCursor] = useState('');
+
   const [products, setProducts] = useState<ProductDiscountDTO[]>([]);
 
   const [queryParams, setQueryParams] = useState<QueryParams>({
     minPrice: '',
     maxPrice: '',
     searchText: '',
-    page: 0,
+    after: '',
     hasDiscount: false
   })
 
   useEffect(() => {
-    productService.findPageRequest(queryParams.minPrice, queryParams.maxPrice, queryParams.searchText, 6, "name", queryParams.page, queryParams.hasDiscount)
+    productService.findPageRequest(queryParams.minPrice, queryParams.maxPrice, queryParams.searchText, 6, "name", 0, queryParams.hasDiscount, queryParams.after)
       .then((response) => {
         const nextPage = response.data.content
         setProducts(products.concat(nextPage));
         setIsLastPage(response.data.last);
+        setNextCursor(response.data.next ?? '');
       })
   }, [queryParams]);
 
   function handlerFiltering(minPrice: string, maxPrice: string, searchText: string, hasDiscount:boolean) {
     setProducts([]);
-    setQueryParams({ ...queryParams, searchText, maxPrice, minPrice, page: 0 ,hasDiscount})
+    setQueryParams({ ...queryParams, searchText, maxPrice, minPrice, after: '' ,hasDiscount})
   }
 
   function handleNextPageClick() {
-    setQueryParams({ ...queryParams, page: queryParams.page + 1 })
+    setQueryParams({ ...queryParams, after: nextCursor })
   }
 
   function handleResetParams() {
     setProducts([]);
-    setQueryParams({ ...queryParams, page: 0 })
+    setQueryParams({ ...queryParams, after: '' })
   }
 
   return (
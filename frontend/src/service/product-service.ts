@@ -10,12 +10,13 @@ export function findPageRequest(
   size: number = 10,
   sort: string = "price",
   page:number,
-  hasDiscount: boolean
+  hasDiscount: boolean,
+  after?: string
 ) {
   const params: any = {
     size,
     sort,
-    page,
+    ...(after !== undefined ? { after } : { page }),
     ...(hasDiscount && { hasDiscount }),
     ...(minPrice && { minPrice }),
     ...(maxPrice && { maxPrice }),